@@ -0,0 +1,52 @@
+// k6 profile for the create-timesheet path, which loads the user, project and tenant on every call.
+// Run it with the second-level cache enabled and disabled (hibernate.cache.use_second_level_cache)
+// and compare throughput, latency and app.requests.sql.statements for TimesheetController.
+//
+//   BASE_URL, TENANT_ID, EMAIL, PASSWORD  as in timesheets.js
+//   PROJECT_ID  a project the user is a member of
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TENANT_ID = __ENV.TENANT_ID || '1';
+const PROJECT_ID = parseInt(__ENV.PROJECT_ID || '1', 10);
+
+export const options = {
+    scenarios: {
+        create: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '50', 10),
+            duration: '2m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json', 'X-Tenant-ID': TENANT_ID } });
+    check(res, { 'logged in': (r) => r.status === 200 });
+    return { token: res.json('data.token') };
+}
+
+// Spread entries over the past ten years instead of piling them onto one day
+export default function (data) {
+    const date = new Date(Date.now() - ((__VU * 1000 + __ITER) % 3650) * 86400000);
+    const res = http.post(`${BASE_URL}/api/timesheets`, JSON.stringify({
+        projectId: PROJECT_ID,
+        date: date.toISOString().slice(0, 10),
+        hours: 1,
+        description: 'load test',
+        isBillable: true,
+    }), {
+        headers: {
+            'Content-Type': 'application/json',
+            Authorization: `Bearer ${data.token}`,
+            'X-Tenant-ID': TENANT_ID,
+        },
+    });
+    check(res, { 'created': (r) => r.status === 200 || r.status === 201 });
+}
@@ -0,0 +1,58 @@
+// k6 profile measuring login throughput while regular API traffic runs alongside it. Compare the
+// api scenario's latency with and without the login burst, and across app.security.password.* settings.
+//
+//   BASE_URL, TENANT_ID, EMAIL, PASSWORD  as in timesheets.js
+//   LOGIN_RATE  logins per second during the burst (default 50)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TENANT_ID = __ENV.TENANT_ID || '1';
+const LOGIN_RATE = parseInt(__ENV.LOGIN_RATE || '50', 10);
+
+const credentials = JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD });
+const jsonHeaders = { 'Content-Type': 'application/json', 'X-Tenant-ID': TENANT_ID };
+
+export const options = {
+    scenarios: {
+        api: {
+            executor: 'constant-vus',
+            exec: 'api',
+            vus: 50,
+            duration: '3m',
+        },
+        logins: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: LOGIN_RATE,
+            timeUnit: '1s',
+            duration: '2m',
+            startTime: '30s',
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:api}': ['p(99)<500'],
+        'http_req_failed{scenario:api}': ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`, credentials, { headers: jsonHeaders });
+    check(res, { 'logged in': (r) => r.status === 200 });
+    return { token: res.json('data.token') };
+}
+
+export function api(data) {
+    const res = http.get(`${BASE_URL}/api/dashboard/stats`,
+        { headers: { Authorization: `Bearer ${data.token}`, 'X-Tenant-ID': TENANT_ID } });
+    check(res, { 'api 200': (r) => r.status === 200 });
+}
+
+// 503 is the expected overload answer from the password pool, so it is counted separately from errors
+export function login() {
+    const res = http.post(`${BASE_URL}/api/auth/login`, credentials,
+        { headers: jsonHeaders, responseCallback: http.expectedStatuses(200, 503) });
+    check(res, { 'login accepted or shed': (r) => r.status === 200 || r.status === 503 });
+}
@@ -0,0 +1,27 @@
+#!/usr/bin/env bash
+# Runs the k6 profile against a running instance and stores the summary under a label, so two
+# configurations can be compared run for run. Start the application yourself between runs, e.g.:
+#
+#   Platform vs virtual threads:
+#     VIRTUAL_THREADS=false ./mvnw spring-boot:run      ->  ./run.sh platform
+#     VIRTUAL_THREADS=true  ./mvnw spring-boot:run      ->  ./run.sh virtual
+#
+#   Default vs production profile (same database, same data):
+#     ./mvnw spring-boot:run                            ->  ./run.sh default
+#     SPRING_PROFILES_ACTIVE=prod DATABASE_URL=... ./mvnw spring-boot:run  ->  ./run.sh prod
+#
+#   Second-level cache off vs on, on the create-timesheet path:
+#     ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.jpa.properties.hibernate.cache.use_second_level_cache=false
+#                                                       ->  ./run.sh no-l2c create-timesheet.js
+#     ./mvnw spring-boot:run                            ->  ./run.sh l2c create-timesheet.js
+#
+# Then compare http_reqs.rate and http_req_duration percentiles in results/<label>.json.
+set -euo pipefail
+
+label="${1:?usage: run.sh <label> [k6 script, default timesheets.js]}"
+script="${2:-timesheets.js}"
+dir="$(dirname "$0")"
+mkdir -p "$dir/results"
+
+k6 run --summary-export "$dir/results/$label.json" "$dir/$script"
+echo "Summary written to $dir/results/$label.json"
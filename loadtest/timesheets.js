@@ -0,0 +1,54 @@
+// k6 load profile for comparing platform-thread and virtual-thread request execution.
+//
+//   BASE_URL   target server (default http://localhost:8080)
+//   TENANT_ID  tenant header sent with every request
+//   EMAIL / PASSWORD  credentials of a user in that tenant
+//   VUS        peak concurrent virtual users (default 500)
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TENANT_ID = __ENV.TENANT_ID || '1';
+const PEAK_VUS = parseInt(__ENV.VUS || '500', 10);
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: PEAK_VUS },
+                { duration: '2m', target: PEAK_VUS },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{endpoint:dashboard}': ['p(99)<1000'],
+        'http_req_duration{endpoint:timesheets}': ['p(99)<1000'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json', 'X-Tenant-ID': TENANT_ID } });
+    check(res, { 'logged in': (r) => r.status === 200 });
+    return { token: res.json('data.token') };
+}
+
+export default function (data) {
+    const params = (endpoint) => ({
+        headers: { Authorization: `Bearer ${data.token}`, 'X-Tenant-ID': TENANT_ID },
+        tags: { endpoint },
+    });
+
+    const dashboard = http.get(`${BASE_URL}/api/dashboard/stats`, params('dashboard'));
+    check(dashboard, { 'dashboard 200': (r) => r.status === 200 });
+
+    const timesheets = http.get(`${BASE_URL}/api/timesheets/my-timesheets/seek?size=20`, params('timesheets'));
+    check(timesheets, { 'timesheets 200': (r) => r.status === 200 });
+
+    sleep(0.2);
+}
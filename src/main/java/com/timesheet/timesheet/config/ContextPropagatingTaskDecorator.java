@@ -0,0 +1,37 @@
+package com.timesheet.timesheet.config;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+// Carries the submitting thread's TenantContext and SecurityContext into executor tasks, and clears
+// them afterwards so pooled threads never leak one request's tenant into another. Spring Boot applies
+// this bean to its own task executor (including the virtual-thread one used for async MVC); internal
+// executors set it explicitly.
+@Component
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Long tenantId = TenantContext.getTenantId();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        return () -> {
+            Long previousTenantId = TenantContext.getTenantId();
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            try {
+                TenantContext.setTenantId(tenantId);
+                SecurityContextHolder.setContext(securityContext);
+                runnable.run();
+            } finally {
+                if (previousTenantId != null) {
+                    TenantContext.setTenantId(previousTenantId);
+                } else {
+                    TenantContext.clear();
+                }
+                SecurityContextHolder.setContext(previousSecurityContext);
+            }
+        };
+    }
+}
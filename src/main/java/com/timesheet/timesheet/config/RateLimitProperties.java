@@ -0,0 +1,45 @@
+package com.timesheet.timesheet.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Validated at startup: a zero rate or concurrency limit would divide by zero or refuse every request
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Applied to tenants whose subscription plan has no entry in plans
+    private String defaultPlan = "FREE";
+
+    // Keyed by Tenant.subscriptionPlan, upper case
+    private Map<String, @Valid Plan> plans = new HashMap<>();
+
+    // Per client address for unauthenticated requests, which are never charged to a tenant
+    @Valid
+    private Plan anonymous = new Plan(5, 20, 4);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Plan {
+        @Positive
+        private double requestsPerSecond = 20;
+        @Positive
+        private int burst = 40;
+        @Positive
+        private int maxConcurrent = 10;
+    }
+}
@@ -0,0 +1,47 @@
+package com.timesheet.timesheet.config;
+
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.repository.TenantRepository;
+import com.timesheet.timesheet.service.TimesheetRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Backfills timesheet_daily_rollups from timesheets. On every startup, tenants that have timesheets but
+// no rollup rows yet (an existing database meeting the table for the first time) are backfilled, so the
+// dashboard never reports zeros for them. --rebuild-rollups rebuilds every tenant, to repair drift;
+// run it while timesheet writes are quiet.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollupRebuildRunner implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-rollups";
+
+    private final TenantRepository tenantRepository;
+    private final TimesheetRollupService rollupService;
+
+    @Value("${app.rollups.auto-backfill:true}")
+    private boolean autoBackfill;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            log.info("Rebuilding timesheet rollups for all tenants");
+            for (Tenant tenant : tenantRepository.findAll()) {
+                rollupService.rebuildTenant(tenant.getId());
+            }
+            log.info("Timesheet rollup rebuild finished");
+        } else if (autoBackfill) {
+            for (Tenant tenant : tenantRepository.findAll()) {
+                if (rollupService.needsBackfill(tenant.getId())) {
+                    log.warn("Timesheet rollups missing for tenant {}, backfilling", tenant.getId());
+                    rollupService.rebuildTenant(tenant.getId());
+                }
+            }
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.timesheet.timesheet.config;
 
 import com.timesheet.timesheet.exception.TenantNotFoundException;
-import com.timesheet.timesheet.repository.TenantRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -16,7 +16,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class TenantFilter extends OncePerRequestFilter {
 
-    private final TenantRepository tenantRepository;
+    private final TenantRegistry tenantRegistry;
+
+    @Value("${app.tenant.host-routing:false}")
+    private boolean hostRouting;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -27,11 +30,15 @@ public class TenantFilter extends OncePerRequestFilter {
 
             if (tenantId != null) {
                 Long tid = Long.parseLong(tenantId);
-                if (tenantRepository.existsById(tid)) {
+                if (tenantRegistry.exists(tid)) {
                     TenantContext.setTenantId(tid);
                 } else {
                     throw new TenantNotFoundException("Tenant not found");
                 }
+            } else if (hostRouting) {
+                tenantRegistry.resolveHost(request.getServerName())
+                        .filter(tenantRegistry::exists)
+                        .ifPresent(TenantContext::setTenantId);
             }
 
             filterChain.doFilter(request, response);
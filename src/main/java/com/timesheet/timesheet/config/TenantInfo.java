@@ -0,0 +1,28 @@
+package com.timesheet.timesheet.config;
+
+import com.timesheet.timesheet.model.Tenant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TenantInfo {
+
+    private final Long id;
+    private final String name;
+    private final String subdomain;
+    private final boolean active;
+    private final Integer maxUsers;
+    private final String subscriptionPlan;
+
+    public static TenantInfo from(Tenant tenant) {
+        return new TenantInfo(
+                tenant.getId(),
+                tenant.getName(),
+                tenant.getSubdomain(),
+                !Boolean.FALSE.equals(tenant.getIsActive()),
+                tenant.getMaxUsers(),
+                tenant.getSubscriptionPlan()
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package com.timesheet.timesheet.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.repository.TenantRepository;
+import com.timesheet.timesheet.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantRegistry {
+
+    private final TenantRepository tenantRepository;
+
+    private final Map<Long, TenantInfo> tenantsById = new ConcurrentHashMap<>();
+    private final Map<String, Long> tenantIdsBySubdomain = new ConcurrentHashMap<>();
+
+    @Value("${app.tenant.registry.refresh-interval:60000}")
+    private long refreshInterval;
+
+    @Value("${app.tenant.registry.unknown-ttl:30000}")
+    private long unknownTtl;
+
+    // Ids that were looked up and not found, so a bogus X-Tenant-ID does not hit the database every request
+    private Cache<Long, Boolean> unknownTenantIds;
+
+    private volatile LocalDateTime lastRefresh;
+
+    @PostConstruct
+    public void load() {
+        unknownTenantIds = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(unknownTtl))
+                .build();
+        lastRefresh = LocalDateTime.now();
+        tenantRepository.findAll().forEach(tenant -> put(TenantInfo.from(tenant)));
+        log.info("Tenant registry loaded {} tenants", tenantsById.size());
+    }
+
+    @Scheduled(initialDelayString = "${app.tenant.registry.refresh-interval:60000}",
+            fixedDelayString = "${app.tenant.registry.refresh-interval:60000}")
+    public void refresh() {
+        // Overlap the previous window so rows committed late by other nodes are not missed
+        LocalDateTime since = lastRefresh.minusNanos(refreshInterval * 1_000_000);
+        lastRefresh = LocalDateTime.now();
+        tenantRepository.findByUpdatedAtAfter(since).forEach(tenant -> put(TenantInfo.from(tenant)));
+    }
+
+    public Optional<TenantInfo> find(Long tenantId) {
+        if (tenantId == null) {
+            return Optional.empty();
+        }
+
+        TenantInfo info = tenantsById.get(tenantId);
+        if (info != null) {
+            return Optional.of(info);
+        }
+
+        if (unknownTenantIds.getIfPresent(tenantId) != null) {
+            return Optional.empty();
+        }
+
+        // Tenant may have been created on another node since the last refresh
+        Optional<TenantInfo> loaded = tenantRepository.findById(tenantId)
+                .map(TenantInfo::from)
+                .map(this::put);
+        if (loaded.isEmpty()) {
+            unknownTenantIds.put(tenantId, Boolean.TRUE);
+        }
+        return loaded;
+    }
+
+    // Deactivated tenants count as missing
+    public boolean exists(Long tenantId) {
+        return find(tenantId).filter(TenantInfo::isActive).isPresent();
+    }
+
+    public Optional<Long> resolveSubdomain(String subdomain) {
+        if (subdomain == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(tenantIdsBySubdomain.get(subdomain.toLowerCase(Locale.ROOT)));
+    }
+
+    public Optional<Long> resolveHost(String host) {
+        if (host == null) {
+            return Optional.empty();
+        }
+
+        int dot = host.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        return resolveSubdomain(host.substring(0, dot));
+    }
+
+    public void register(Tenant tenant) {
+        TenantInfo info = TenantInfo.from(tenant);
+        TransactionUtils.afterCommit(() -> put(info));
+    }
+
+    private TenantInfo put(TenantInfo info) {
+        TenantInfo previous = tenantsById.put(info.getId(), info);
+        String subdomain = info.getSubdomain().toLowerCase(Locale.ROOT);
+        if (previous != null) {
+            String previousSubdomain = previous.getSubdomain().toLowerCase(Locale.ROOT);
+            if (!previousSubdomain.equals(subdomain)) {
+                // Only drop the old key if it still points at this tenant
+                tenantIdsBySubdomain.remove(previousSubdomain, info.getId());
+            }
+        }
+        tenantIdsBySubdomain.put(subdomain, info.getId());
+        unknownTenantIds.invalidate(info.getId());
+        return info;
+    }
+}
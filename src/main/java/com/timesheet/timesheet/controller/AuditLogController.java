@@ -0,0 +1,37 @@
+package com.timesheet.timesheet.controller;
+
+import com.timesheet.timesheet.dto.response.ApiResponse;
+import com.timesheet.timesheet.dto.response.AuditLogResponse;
+import com.timesheet.timesheet.dto.response.CursorPageResponse;
+import com.timesheet.timesheet.service.AuditService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class AuditLogController {
+
+    private final AuditService auditService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPageResponse<AuditLogResponse>>> getAuditLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageResponse<AuditLogResponse> page = auditService.getAuditLogs(
+                entityType, entityId, from, to, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+}
@@ -26,8 +26,9 @@ public class DashboardController {
 
     @GetMapping("/hours-chart")
     public ResponseEntity<ApiResponse<List<HoursChartResponse>>> getHoursChart(
-            @RequestParam(defaultValue = "7") int days) {
-        List<HoursChartResponse> chartData = dashboardService.getHoursChartData(days);
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(required = false) String granularity) {
+        List<HoursChartResponse> chartData = dashboardService.getHoursChartData(days, granularity);
         return ResponseEntity.ok(ApiResponse.success(chartData));
     }
 }
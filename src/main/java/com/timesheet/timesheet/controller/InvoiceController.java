@@ -0,0 +1,71 @@
+package com.timesheet.timesheet.controller;
+
+import com.timesheet.timesheet.dto.request.InvoiceGenerationRequest;
+import com.timesheet.timesheet.dto.response.ApiResponse;
+import com.timesheet.timesheet.dto.response.InvoiceGenerationResult;
+import com.timesheet.timesheet.dto.response.InvoiceResponse;
+import com.timesheet.timesheet.dto.response.PageResponse;
+import com.timesheet.timesheet.service.InvoiceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/invoices")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+public class InvoiceController {
+
+    private final InvoiceService invoiceService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<InvoiceResponse>>> getInvoices(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("invoiceDate").descending());
+        Page<InvoiceResponse> invoicePage = invoiceService.getInvoices(pageable);
+
+        PageResponse<InvoiceResponse> pageResponse = PageResponse.<InvoiceResponse>builder()
+                .content(invoicePage.getContent())
+                .pageNumber(invoicePage.getNumber())
+                .pageSize(invoicePage.getSize())
+                .totalElements(invoicePage.getTotalElements())
+                .totalPages(invoicePage.getTotalPages())
+                .last(invoicePage.isLast())
+                .build();
+
+        return ResponseEntity.ok(ApiResponse.success(pageResponse));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<InvoiceResponse>> getInvoiceById(@PathVariable Long id) {
+        InvoiceResponse invoice = invoiceService.getInvoiceById(id);
+        return ResponseEntity.ok(ApiResponse.success(invoice));
+    }
+
+    @PostMapping("/generate")
+    public ResponseEntity<ApiResponse<InvoiceResponse>> generateInvoice(
+            @Valid @RequestBody InvoiceGenerationRequest request) {
+        InvoiceResponse invoice = invoiceService.generateInvoice(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Invoice generated successfully", invoice));
+    }
+
+    @PostMapping("/generate-all")
+    public ResponseEntity<ApiResponse<List<InvoiceGenerationResult>>> generateForAllProjects(
+            @Valid @RequestBody InvoiceGenerationRequest request) {
+        List<InvoiceGenerationResult> results = invoiceService.generateForAllProjects(request);
+        return ResponseEntity.ok(ApiResponse.success("Invoice generation finished", results));
+    }
+}
@@ -0,0 +1,43 @@
+package com.timesheet.timesheet.controller;
+
+import com.timesheet.timesheet.dto.response.ApiResponse;
+import com.timesheet.timesheet.dto.response.QueryPlanResponse;
+import com.timesheet.timesheet.monitoring.IndexAdvisor;
+import com.timesheet.timesheet.monitoring.SqlCaptureInspector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Operator-only: captured SQL spans every tenant and EXPLAIN runs against the shared database, so
+// tenant ADMINs must not reach it. Only registered where SQL capture is enabled (dev and test profiles).
+@RestController
+@RequestMapping("/api/admin/monitoring")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+@ConditionalOnProperty(name = "app.monitoring.sql-capture.enabled", havingValue = "true")
+public class MonitoringController {
+
+    private final IndexAdvisor indexAdvisor;
+
+    @GetMapping("/query-plans")
+    public ResponseEntity<ApiResponse<List<QueryPlanResponse>>> getQueryPlans(
+            @RequestParam(defaultValue = "true") boolean fullScansOnly) {
+        List<QueryPlanResponse> plans = indexAdvisor.explainCapturedQueries(fullScansOnly);
+        long evicted = SqlCaptureInspector.evictedCount();
+        String message = evicted > 0
+                ? evicted + " older statements were evicted from the capture store"
+                : "Success";
+        return ResponseEntity.ok(ApiResponse.success(message, plans));
+    }
+
+    @DeleteMapping("/query-plans")
+    public ResponseEntity<ApiResponse<Void>> clearCapturedQueries() {
+        SqlCaptureInspector.clear();
+        return ResponseEntity.ok(ApiResponse.success("Captured queries cleared", null));
+    }
+}
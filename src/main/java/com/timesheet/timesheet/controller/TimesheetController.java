@@ -1,10 +1,16 @@
 package com.timesheet.timesheet.controller;
 
+import com.timesheet.timesheet.dto.request.BulkTimesheetApprovalRequest;
 import com.timesheet.timesheet.dto.request.TimesheetApprovalRequest;
 import com.timesheet.timesheet.dto.request.TimesheetRequest;
 import com.timesheet.timesheet.dto.response.ApiResponse;
+import com.timesheet.timesheet.dto.response.BulkApprovalResponse;
+import com.timesheet.timesheet.dto.response.CursorPageResponse;
 import com.timesheet.timesheet.dto.response.PageResponse;
+import com.timesheet.timesheet.dto.response.TimesheetImportResponse;
 import com.timesheet.timesheet.dto.response.TimesheetResponse;
+import com.timesheet.timesheet.service.TimesheetExportService;
+import com.timesheet.timesheet.service.TimesheetImportService;
 import com.timesheet.timesheet.service.TimesheetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,10 +18,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/timesheets")
@@ -24,6 +37,8 @@ import org.springframework.web.bind.annotation.*;
 public class TimesheetController {
 
     private final TimesheetService timesheetService;
+    private final TimesheetImportService timesheetImportService;
+    private final TimesheetExportService timesheetExportService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
@@ -51,6 +66,18 @@ public class TimesheetController {
         return ResponseEntity.ok(ApiResponse.success(pageResponse));
     }
 
+    // Keyset variant of the listing: pass back nextCursor to fetch the following page
+    @GetMapping("/seek")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TimesheetResponse>>> seekAllTimesheets(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPageResponse<TimesheetResponse> page = timesheetService.getAllTimesheets(cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
     @GetMapping("/my-timesheets")
     public ResponseEntity<ApiResponse<PageResponse<TimesheetResponse>>> getMyTimesheets(
             @RequestParam(defaultValue = "0") int page,
@@ -76,6 +103,16 @@ public class TimesheetController {
         return ResponseEntity.ok(ApiResponse.success(pageResponse));
     }
 
+    @GetMapping("/my-timesheets/seek")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TimesheetResponse>>> seekMyTimesheets(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPageResponse<TimesheetResponse> page = timesheetService.getMyTimesheets(cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
     @GetMapping("/pending")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<ApiResponse<PageResponse<TimesheetResponse>>> getPendingTimesheets(
@@ -97,6 +134,27 @@ public class TimesheetController {
         return ResponseEntity.ok(ApiResponse.success(pageResponse));
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTimesheets(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        // Resolve tenant and caller here; the body is written after the request thread is released
+        TimesheetExportService.ExportRequest export = timesheetExportService.prepareExport(
+                format, userId, projectId, status, startDate, endDate);
+        StreamingResponseBody body = outputStream -> timesheetExportService.writeExport(export, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(export.getFormat().getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"timesheets." + export.getFormat().getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<TimesheetResponse>> getTimesheetById(@PathVariable Long id) {
         TimesheetResponse timesheet = timesheetService.getTimesheetById(id);
@@ -111,6 +169,15 @@ public class TimesheetController {
                 .body(ApiResponse.success("Timesheet created successfully", timesheet));
     }
 
+    // Streams the request body, so large CSV/JSON/NDJSON exports are never held in memory
+    @PostMapping(value = "/import",
+            consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<TimesheetImportResponse>> importTimesheets(
+            InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        TimesheetImportResponse result = timesheetImportService.importTimesheets(body, contentType);
+        return ResponseEntity.ok(ApiResponse.success("Timesheet import finished", result));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<TimesheetResponse>> updateTimesheet(
             @PathVariable Long id, @Valid @RequestBody TimesheetRequest request) {
@@ -131,4 +198,12 @@ public class TimesheetController {
         TimesheetResponse timesheet = timesheetService.approveOrRejectTimesheet(id, request);
         return ResponseEntity.ok(ApiResponse.success("Timesheet status updated", timesheet));
     }
+
+    @PatchMapping("/approve")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<BulkApprovalResponse>> bulkApproveOrReject(
+            @Valid @RequestBody BulkTimesheetApprovalRequest request) {
+        BulkApprovalResponse result = timesheetService.bulkApproveOrReject(request);
+        return ResponseEntity.ok(ApiResponse.success("Timesheet statuses updated", result));
+    }
 }
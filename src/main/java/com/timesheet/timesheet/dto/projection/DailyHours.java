@@ -0,0 +1,11 @@
+package com.timesheet.timesheet.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DailyHours {
+
+    LocalDate getDate();
+
+    BigDecimal getHours();
+}
@@ -0,0 +1,18 @@
+package com.timesheet.timesheet.dto.projection;
+
+import java.math.BigDecimal;
+
+public interface DashboardStats {
+
+    Long getTotalProjects();
+
+    Long getActiveProjects();
+
+    Long getTotalUsers();
+
+    Long getPendingTimesheets();
+
+    BigDecimal getTotalHoursThisMonth();
+
+    BigDecimal getTotalHoursLastMonth();
+}
@@ -0,0 +1,12 @@
+package com.timesheet.timesheet.dto.projection;
+
+import java.math.BigDecimal;
+
+public interface ProjectCostSummary {
+
+    Long getProjectId();
+
+    BigDecimal getApprovedHours();
+
+    BigDecimal getTotalCost();
+}
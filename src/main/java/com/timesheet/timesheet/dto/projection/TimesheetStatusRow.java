@@ -0,0 +1,8 @@
+package com.timesheet.timesheet.dto.projection;
+
+public interface TimesheetStatusRow {
+
+    Long getId();
+
+    String getStatus();
+}
@@ -0,0 +1,29 @@
+package com.timesheet.timesheet.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTimesheetApprovalRequest {
+
+    @NotNull(message = "Status is required")
+    private String status; // APPROVED or REJECTED
+
+    private String rejectionReason;
+
+    // Either explicit ids...
+    private List<Long> ids;
+
+    // ...or a filter over the pending queue
+    private Long userId;
+    private Long projectId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
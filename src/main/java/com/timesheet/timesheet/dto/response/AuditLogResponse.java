@@ -0,0 +1,23 @@
+package com.timesheet.timesheet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogResponse {
+    private Long id;
+    private Long userId;
+    private String action;
+    private String entityType;
+    private Long entityId;
+    private String details;
+    private String ipAddress;
+    private LocalDateTime createdAt;
+}
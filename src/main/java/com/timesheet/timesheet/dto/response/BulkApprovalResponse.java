@@ -0,0 +1,27 @@
+package com.timesheet.timesheet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkApprovalResponse {
+    private String status;
+    private int updatedCount;
+    private boolean hasMore;  // a filter matched more pending rows than one request handles
+    private List<Outcome> outcomes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Outcome {
+        private Long id;
+        private String result; // UPDATED, NOT_FOUND or NOT_PENDING
+    }
+}
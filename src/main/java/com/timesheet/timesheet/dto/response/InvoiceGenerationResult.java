@@ -0,0 +1,21 @@
+package com.timesheet.timesheet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvoiceGenerationResult {
+    private Long projectId;
+    private String result; // GENERATED, NO_BILLABLE_TIME, ALREADY_INVOICED or FAILED
+    private Long invoiceId;
+    private String invoiceNumber;
+    private BigDecimal totalAmount;
+    private String message;
+}
@@ -0,0 +1,43 @@
+package com.timesheet.timesheet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvoiceResponse {
+    private Long id;
+    private String invoiceNumber;
+    private ProjectResponse project;
+    private LocalDate invoiceDate;
+    private LocalDate dueDate;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private BigDecimal totalAmount;
+    private BigDecimal taxAmount;
+    private String status;
+    private String notes;
+    private List<LineItem> lineItems;
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LineItem {
+        private Long userId;
+        private String userName;
+        private BigDecimal hours;
+        private BigDecimal hourlyRate;
+        private BigDecimal amount;
+    }
+}
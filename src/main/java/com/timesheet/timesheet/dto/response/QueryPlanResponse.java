@@ -0,0 +1,21 @@
+package com.timesheet.timesheet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueryPlanResponse {
+    private String sql;
+    private String table;
+    private String accessType;  // EXPLAIN "type" column (ALL, index, range, ref, ...)
+    private String key;
+    private Long rows;
+    private String extra;
+    private boolean fullScan;
+    private String error;
+}
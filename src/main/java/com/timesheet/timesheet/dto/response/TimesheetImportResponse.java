@@ -0,0 +1,28 @@
+package com.timesheet.timesheet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimesheetImportResponse {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated;  // true when more rows failed than are listed in errors
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportRowError {
+        private long row;  // CSV record number (the header is 1), or 1-based position of the JSON record
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.timesheet.timesheet.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TenantQuotaExceededException extends RuntimeException {
+
+    private final String reason;
+    private final long retryAfterSeconds;
+
+    public TenantQuotaExceededException(String message, String reason, long retryAfterSeconds) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,52 @@
+package com.timesheet.timesheet.mapper;
+
+import com.timesheet.timesheet.dto.response.InvoiceResponse;
+import com.timesheet.timesheet.model.Invoice;
+import com.timesheet.timesheet.model.InvoiceLineItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class InvoiceMapper {
+
+    private final ProjectMapper projectMapper;
+
+    // Line items are only attached for single-invoice views; listings leave them null
+    public InvoiceResponse toResponse(Invoice invoice, List<InvoiceLineItem> lineItems) {
+        if (invoice == null) {
+            return null;
+        }
+
+        return InvoiceResponse.builder()
+                .id(invoice.getId())
+                .invoiceNumber(invoice.getInvoiceNumber())
+                .project(projectMapper.toSummary(invoice.getProject()))
+                .invoiceDate(invoice.getInvoiceDate())
+                .dueDate(invoice.getDueDate())
+                .periodStart(invoice.getPeriodStart())
+                .periodEnd(invoice.getPeriodEnd())
+                .totalAmount(invoice.getTotalAmount())
+                .taxAmount(invoice.getTaxAmount())
+                .status(invoice.getStatus().name())
+                .notes(invoice.getNotes())
+                .lineItems(lineItems == null ? null : lineItems.stream()
+                        .map(this::toLineItem)
+                        .collect(Collectors.toList()))
+                .createdAt(invoice.getCreatedAt())
+                .build();
+    }
+
+    private InvoiceResponse.LineItem toLineItem(InvoiceLineItem lineItem) {
+        return InvoiceResponse.LineItem.builder()
+                .userId(lineItem.getUser().getId())
+                .userName(lineItem.getUser().getFirstName() + " " + lineItem.getUser().getLastName())
+                .hours(lineItem.getHours())
+                .hourlyRate(lineItem.getHourlyRate())
+                .amount(lineItem.getAmount())
+                .build();
+    }
+}
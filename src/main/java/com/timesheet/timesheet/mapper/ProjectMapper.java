@@ -0,0 +1,55 @@
+package com.timesheet.timesheet.mapper;
+
+import com.timesheet.timesheet.dto.response.ProjectMemberResponse;
+import com.timesheet.timesheet.dto.response.ProjectResponse;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.ProjectMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectMapper {
+
+    private final UserMapper userMapper;
+
+    // Members and totals are left for the caller, which knows how to load them in bulk
+    public ProjectResponse toResponse(Project project) {
+        if (project == null) {
+            return null;
+        }
+
+        ProjectResponse response = toSummary(project);
+        response.setDescription(project.getDescription());
+        response.setStartDate(project.getStartDate());
+        response.setEndDate(project.getEndDate());
+        response.setBudget(project.getBudget());
+        response.setCreatedBy(userMapper.toResponse(project.getCreatedBy()));
+        response.setCreatedAt(project.getCreatedAt());
+        return response;
+    }
+
+    // Lightweight form used when a project is nested in another response
+    public ProjectResponse toSummary(Project project) {
+        if (project == null) {
+            return null;
+        }
+
+        return ProjectResponse.builder()
+                .id(project.getId())
+                .name(project.getName())
+                .clientName(project.getClientName())
+                .status(project.getStatus() != null ? project.getStatus().name() : null)
+                .colorCode(project.getColorCode())
+                .build();
+    }
+
+    public ProjectMemberResponse toMemberResponse(ProjectMember member) {
+        return ProjectMemberResponse.builder()
+                .id(member.getId())
+                .user(userMapper.toResponse(member.getUser()))
+                .role(member.getRole() != null ? member.getRole().name() : null)
+                .assignedAt(member.getAssignedAt())
+                .build();
+    }
+}
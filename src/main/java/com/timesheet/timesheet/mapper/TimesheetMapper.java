@@ -0,0 +1,31 @@
+package com.timesheet.timesheet.mapper;
+
+import com.timesheet.timesheet.dto.response.TimesheetResponse;
+import com.timesheet.timesheet.model.Timesheet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TimesheetMapper {
+
+    private final UserMapper userMapper;
+    private final ProjectMapper projectMapper;
+
+    public TimesheetResponse toResponse(Timesheet timesheet) {
+        return TimesheetResponse.builder()
+                .id(timesheet.getId())
+                .user(userMapper.toResponse(timesheet.getUser()))
+                .project(projectMapper.toSummary(timesheet.getProject()))
+                .date(timesheet.getDate())
+                .hours(timesheet.getHours())
+                .description(timesheet.getDescription())
+                .isBillable(timesheet.getIsBillable())
+                .status(timesheet.getStatus() != null ? timesheet.getStatus().name() : null)
+                .approvedBy(userMapper.toResponse(timesheet.getApprovedBy()))
+                .approvedAt(timesheet.getApprovedAt())
+                .rejectionReason(timesheet.getRejectionReason())
+                .createdAt(timesheet.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.timesheet.timesheet.mapper;
+
+import com.timesheet.timesheet.config.TenantInfo;
+import com.timesheet.timesheet.config.TenantRegistry;
+import com.timesheet.timesheet.dto.response.UserResponse;
+import com.timesheet.timesheet.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserMapper {
+
+    private final TenantRegistry tenantRegistry;
+
+    public UserResponse toResponse(User user) {
+        if (user == null) {
+            return null;
+        }
+
+        // Reading the id of a lazy tenant proxy does not initialize it
+        Long tenantId = user.getTenant() != null ? user.getTenant().getId() : null;
+
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .role(user.getRole() != null ? user.getRole().name() : null)
+                .hourlyRate(user.getHourlyRate())
+                .isActive(user.getIsActive())
+                .phoneNumber(user.getPhoneNumber())
+                .avatarUrl(user.getAvatarUrl())
+                .tenantId(tenantId)
+                .tenantName(getTenantName(tenantId))
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+
+    private String getTenantName(Long tenantId) {
+        return tenantRegistry.find(tenantId)
+                .map(TenantInfo::getName)
+                .orElse(null);
+    }
+}
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "audit_logs", indexes = {
         @Index(name = "idx_tenant_audit", columnList = "tenant_id"),
-        @Index(name = "idx_user_audit", columnList = "user_id")
+        @Index(name = "idx_user_audit", columnList = "user_id"),
+        @Index(name = "idx_audit_tenant_created", columnList = "tenant_id, created_at, id"),
+        @Index(name = "idx_audit_tenant_entity_created", columnList = "tenant_id, entity_type, entity_id, created_at, id")
 })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,20 @@
+package com.timesheet.timesheet.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Last invoice number handed out per tenant; only written through InvoiceNumberAllocator
+@Entity
+@Table(name = "invoice_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceSequence {
+
+    @Id
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue;
+}
@@ -2,6 +2,8 @@ package com.timesheet.timesheet.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.math.BigDecimal;
@@ -10,7 +12,11 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_project_tenant_status", columnList = "tenant_id, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -51,6 +57,7 @@ public class Project extends BaseEntity {
     private User createdBy;
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-member-collections")
     @Builder.Default
     private Set<ProjectMember> members = new HashSet<>();
 
@@ -2,13 +2,19 @@ package com.timesheet.timesheet.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
 @Table(name = "project_members", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"project_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_member_user_project", columnList = "user_id, project_id")
 })
 @Data
 @NoArgsConstructor
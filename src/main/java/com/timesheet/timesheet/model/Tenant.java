@@ -2,8 +2,12 @@ package com.timesheet.timesheet.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tenants")
 @Table(name = "tenants")
 @Data
 @NoArgsConstructor
@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 @Table(name = "timesheets", indexes = {
         @Index(name = "idx_user_date", columnList = "user_id, date"),
         @Index(name = "idx_project", columnList = "project_id"),
-        @Index(name = "idx_tenant", columnList = "tenant_id")
+        @Index(name = "idx_tenant", columnList = "tenant_id"),
+        @Index(name = "idx_tenant_date_id", columnList = "tenant_id, date, id"),
+        @Index(name = "idx_tenant_user_date_id", columnList = "tenant_id, user_id, date, id"),
+        @Index(name = "idx_tenant_status_date", columnList = "tenant_id, status, date"),
+        @Index(name = "idx_project_status_cost", columnList = "project_id, status, tenant_id, is_billable, user_id, hours")
 })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,51 @@
+package com.timesheet.timesheet.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "timesheet_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollup_key",
+                columnNames = {"tenant_id", "user_id", "project_id", "date", "status", "is_billable"})
+}, indexes = {
+        @Index(name = "idx_rollup_tenant_date", columnList = "tenant_id, date"),
+        @Index(name = "idx_rollup_tenant_user_date", columnList = "tenant_id, user_id, date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimesheetDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Timesheet.TimesheetStatus status;
+
+    @Column(name = "is_billable", nullable = false)
+    private Boolean isBillable;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal hours;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+}
@@ -0,0 +1,120 @@
+package com.timesheet.timesheet.monitoring;
+
+import com.timesheet.timesheet.dto.response.QueryPlanResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Runs EXPLAIN on every statement captured by SqlCaptureInspector and flags full table and index scans.
+// Captured SQL has no bind values, so each parameter gets a placeholder typed from the column it is
+// compared with. The plans show which index is usable, but row estimates reflect the placeholder values,
+// not real selectivity.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.monitoring.sql-capture.enabled", havingValue = "true")
+public class IndexAdvisor {
+
+    private static final Date PLACEHOLDER_DATE = Date.valueOf(LocalDate.of(2000, 1, 1));
+    private static final long PLACEHOLDER_ID = 1L;
+    private static final String PLACEHOLDER_TEXT = "1";
+
+    // The column a "?" is compared with, e.g. "t1_0.tenant_id=?", "t.date between ? and ?", "id in (?,?"
+    private static final Pattern COMPARED_COLUMN = Pattern.compile(
+            "([\\w.]+)\\s*(?:=|<=|>=|<>|!=|<|>|\\blike|\\bbetween|\\bin\\s*\\()\\s*(?:\\?\\s*(?:,|\\band\\b)\\s*)*$",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern LIMIT_PARAMS = Pattern.compile("(?i)\\blimit \\?( ?, ?\\?)?");
+    private static final Pattern OFFSET_PARAM = Pattern.compile("(?i)\\boffset \\?");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<QueryPlanResponse> explainCapturedQueries(boolean fullScansOnly) {
+        List<QueryPlanResponse> plans = new ArrayList<>();
+        for (String sql : SqlCaptureInspector.capturedStatements()) {
+            for (QueryPlanResponse plan : explain(sql)) {
+                if (!fullScansOnly || plan.isFullScan() || plan.getError() != null) {
+                    plans.add(plan);
+                }
+            }
+        }
+        return plans;
+    }
+
+    private List<QueryPlanResponse> explain(String sql) {
+        String explainable = OFFSET_PARAM.matcher(LIMIT_PARAMS.matcher(sql).replaceAll("limit 10"))
+                .replaceAll("offset 0");
+
+        try {
+            return jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("EXPLAIN " + explainable);
+                List<String> columns = comparedColumns(explainable);
+                for (int i = 1; i <= columns.size(); i++) {
+                    bindPlaceholder(statement, i, columns.get(i - 1));
+                }
+                return statement;
+            }, (rs, rowNum) -> toPlan(sql, rs));
+        } catch (DataAccessException e) {
+            log.warn("Could not explain query: {}", sql, e);
+            return List.of(QueryPlanResponse.builder()
+                    .sql(sql)
+                    .error(e.getMostSpecificCause().getMessage())
+                    .build());
+        }
+    }
+
+    // One entry per "?" in order; null when the column could not be determined
+    private static List<String> comparedColumns(String sql) {
+        List<String> columns = new ArrayList<>();
+        for (int i = sql.indexOf('?'); i >= 0; i = sql.indexOf('?', i + 1)) {
+            String prefix = sql.substring(Math.max(0, i - 200), i);
+            Matcher matcher = COMPARED_COLUMN.matcher(prefix);
+            columns.add(matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : null);
+        }
+        return columns;
+    }
+
+    private static void bindPlaceholder(PreparedStatement statement, int index, String column) throws SQLException {
+        String name = column != null ? column.substring(column.lastIndexOf('.') + 1) : "";
+        if (name.equals("id") || name.endsWith("_id")) {
+            statement.setLong(index, PLACEHOLDER_ID);
+        } else if (name.equals("date") || name.endsWith("_date") || name.endsWith("_at")) {
+            statement.setDate(index, PLACEHOLDER_DATE);
+        } else {
+            // MySQL coerces this to numbers and strings alike
+            statement.setString(index, PLACEHOLDER_TEXT);
+        }
+    }
+
+    private QueryPlanResponse toPlan(String sql, ResultSet rs) throws SQLException {
+        String accessType = rs.getString("type");
+        long rows = rs.getLong("rows");
+        boolean rowsKnown = !rs.wasNull();
+        // "index" walks the whole index, which is as unbounded as a table scan for large tenants
+        boolean fullScan = "ALL".equals(accessType) || "index".equals(accessType);
+
+        return QueryPlanResponse.builder()
+                .sql(sql)
+                .table(rs.getString("table"))
+                .accessType(accessType)
+                .key(rs.getString("key"))
+                .rows(rowsKnown ? rows : null)
+                .extra(rs.getString("Extra"))
+                .fullScan(fullScan)
+                .build();
+    }
+}
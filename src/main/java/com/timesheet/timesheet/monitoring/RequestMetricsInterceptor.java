@@ -0,0 +1,102 @@
+package com.timesheet.timesheet.monitoring;
+
+import com.timesheet.timesheet.util.TenantUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+// Times every controller method and counts the JDBC statements it triggers, tagged by controller,
+// method and (optionally) tenant. Requests issuing more statements than the threshold are logged as
+// likely N+1 offenders. Meters are published on /actuator/metrics.
+// The SQL meters only see statements run through Hibernate sessions; JdbcTemplate work (imports,
+// rollup upserts, invoice line items, exports) is not counted, so those endpoints under-report.
+// Latency is published as a histogram so percentiles are computed by the monitoring backend
+// across instances, rather than kept client-side per tag combination.
+@Slf4j
+@Component
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+    private static final String SQL_SCOPE_NOTE = " (Hibernate sessions only, JdbcTemplate statements are not counted)";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean perTenant;
+    private final int statementWarnThreshold;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry,
+                                     @Value("${app.metrics.per-tenant:false}") boolean perTenant,
+                                     @Value("${app.metrics.sql-statement-warn-threshold:20}") int statementWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.perTenant = perTenant;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            RequestSqlStats.begin();
+        }
+        return true;
+    }
+
+    // The initial dispatch of a streamed response ends here; the async dispatch is measured on its own
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestSqlStats.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        RequestSqlStats sql = RequestSqlStats.end();
+        if (!(handler instanceof HandlerMethod handlerMethod) || start == null || sql == null) {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - (Long) start;
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+        Long tenantId = TenantUtils.getCurrentTenantId();
+
+        Tags tags = Tags.of("controller", controller, "method", method);
+        if (perTenant) {
+            tags = tags.and("tenant", tenantId != null ? tenantId.toString() : "none");
+        }
+
+        Timer.builder("app.requests")
+                .description("Controller method latency")
+                .tags(tags)
+                .tag("status", String.valueOf(response.getStatus()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("app.requests.sql.statements")
+                .description("SQL statements per request" + SQL_SCOPE_NOTE)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sql.getStatements());
+        Timer.builder("app.requests.sql.time")
+                .description("Time spent executing SQL per request" + SQL_SCOPE_NOTE)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sql.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (sql.getStatements() > statementWarnThreshold) {
+            log.warn("{}.{} issued {} SQL statements ({} ms) for tenant {} - possible N+1",
+                    controller, method, sql.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(sql.getElapsedNanos()), tenantId);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.timesheet.timesheet.monitoring;
+
+// JDBC statement count and time for the request running on the current thread. The request metrics
+// interceptor opens and closes the scope; SqlStatsSessionListener adds to it. Statements outside a
+// request (schedulers, the audit writer) are not counted.
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedNanos;
+
+    private RequestSqlStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new RequestSqlStats());
+    }
+
+    public static RequestSqlStats end() {
+        RequestSqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void record(long elapsedNanos) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,30 @@
+package com.timesheet.timesheet.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+
+// Publishes cache.gets{result=hit|miss}, cache.puts and cache.removals for every Hibernate second-level
+// cache region, tagged with the region name. Read from the JCache statistics each region enables with
+// monitoring.statistics in application.conf, so Hibernate's global statistics can stay off.
+@Component
+public class SecondLevelCacheMetrics {
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        JCacheRegionFactory regionFactory = (JCacheRegionFactory) entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+        CacheManager cacheManager = regionFactory.getCacheManager();
+
+        // Regions are created with the session factory, so they all exist by now
+        for (String region : cacheManager.getCacheNames()) {
+            JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region));
+        }
+    }
+}
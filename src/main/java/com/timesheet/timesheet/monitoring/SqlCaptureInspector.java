@@ -0,0 +1,67 @@
+package com.timesheet.timesheet.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// Records the distinct SELECT statements Hibernate issues against the tenant-scoped tables so the
+// index advisor can EXPLAIN them. Hibernate instantiates this by class name, hence the static store.
+// Only enabled in the dev and test profiles: the store holds statements from every tenant, and the
+// lock below is acceptable there but not on a production hot path.
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final int MAX_CAPTURED = 500;
+
+    private static final Pattern WATCHED_TABLES =
+            Pattern.compile("\\b(timesheets|projects|users|project_members)\\b");
+
+    private static final AtomicLong EVICTED = new AtomicLong();
+
+    // Least recently seen statements are evicted, so new queries are always captured
+    private static final Map<String, Boolean> CAPTURED = new LinkedHashMap<>(MAX_CAPTURED, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            if (size() > MAX_CAPTURED) {
+                EVICTED.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    @Override
+    public String inspect(String sql) {
+        String normalized = sql.replaceAll("\\s+", " ").trim();
+        String lower = normalized.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("select") && WATCHED_TABLES.matcher(lower).find()) {
+            synchronized (CAPTURED) {
+                CAPTURED.put(normalized, Boolean.TRUE);
+            }
+        }
+        return sql;
+    }
+
+    public static List<String> capturedStatements() {
+        synchronized (CAPTURED) {
+            return new ArrayList<>(CAPTURED.keySet());
+        }
+    }
+
+    // Statements pushed out of the store since the last clear
+    public static long evictedCount() {
+        return EVICTED.get();
+    }
+
+    public static void clear() {
+        synchronized (CAPTURED) {
+            CAPTURED.clear();
+            EVICTED.set(0);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.timesheet.timesheet.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+// Attached to every Hibernate session through hibernate.session.events.auto. Hibernate's global
+// statistics cannot be attributed to a single request, so statement timings are pushed into the
+// per-thread RequestSqlStats instead. A session is confined to one thread, so the field needs no locking.
+public class SqlStatsSessionListener implements SessionEventListener {
+
+    private long statementStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats.record(System.nanoTime() - statementStart);
+    }
+}
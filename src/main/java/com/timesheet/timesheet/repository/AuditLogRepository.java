@@ -1,11 +1,17 @@
 package com.timesheet.timesheet.repository;
 
 import com.timesheet.timesheet.model.AuditLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
@@ -14,4 +20,40 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     Page<AuditLog> findByUserId(Long userId, Pageable pageable);
 
     Page<AuditLog> findByTenantIdAndUserId(Long tenantId, Long userId, Pageable pageable);
+
+    // Time-window listings ordered by (createdAt, id) descending. Rows strictly before the
+    // (before, beforeId) position and not older than :from are returned, so the first page starts
+    // from the window end and every later page continues from the last row seen. The created_at
+    // range also lets MySQL prune partitions outside the window.
+    @Query("SELECT a FROM AuditLog a WHERE a.tenantId = :tenantId AND a.createdAt >= :from " +
+            "AND (a.createdAt < :before OR (a.createdAt = :before AND a.id < :beforeId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLog> findWindowByTenantId(@Param("tenantId") Long tenantId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("before") LocalDateTime before,
+                                        @Param("beforeId") Long beforeId,
+                                        Limit limit);
+
+    @Query("SELECT a FROM AuditLog a WHERE a.tenantId = :tenantId AND a.entityType = :entityType " +
+            "AND a.createdAt >= :from " +
+            "AND (a.createdAt < :before OR (a.createdAt = :before AND a.id < :beforeId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLog> findWindowByTenantIdAndEntityType(@Param("tenantId") Long tenantId,
+                                                     @Param("entityType") String entityType,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("before") LocalDateTime before,
+                                                     @Param("beforeId") Long beforeId,
+                                                     Limit limit);
+
+    @Query("SELECT a FROM AuditLog a WHERE a.tenantId = :tenantId AND a.entityType = :entityType " +
+            "AND a.entityId = :entityId AND a.createdAt >= :from " +
+            "AND (a.createdAt < :before OR (a.createdAt = :before AND a.id < :beforeId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLog> findWindowByTenantIdAndEntity(@Param("tenantId") Long tenantId,
+                                                 @Param("entityType") String entityType,
+                                                 @Param("entityId") Long entityId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("before") LocalDateTime before,
+                                                 @Param("beforeId") Long beforeId,
+                                                 Limit limit);
 }
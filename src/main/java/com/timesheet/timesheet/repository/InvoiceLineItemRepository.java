@@ -0,0 +1,16 @@
+package com.timesheet.timesheet.repository;
+
+import com.timesheet.timesheet.model.InvoiceLineItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InvoiceLineItemRepository extends JpaRepository<InvoiceLineItem, Long> {
+
+    @Query("SELECT li FROM InvoiceLineItem li JOIN FETCH li.user WHERE li.invoice.id = :invoiceId ORDER BY li.id")
+    List<InvoiceLineItem> findWithUserByInvoiceId(@Param("invoiceId") Long invoiceId);
+}
@@ -3,19 +3,23 @@ package com.timesheet.timesheet.repository;
 import com.timesheet.timesheet.model.Invoice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
+    @EntityGraph(attributePaths = "project")
     Page<Invoice> findByTenantId(Long tenantId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "project")
     @Query("SELECT i FROM Invoice i WHERE i.tenant.id = :tenantId AND i.id = :invoiceId")
     Optional<Invoice> findByIdAndTenantId(@Param("invoiceId") Long invoiceId, @Param("tenantId") Long tenantId);
 
@@ -24,6 +28,13 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
     boolean existsByInvoiceNumber(String invoiceNumber);
 
+    // Any shared day counts: approved timesheets are billed by date range, so overlapping periods would bill them twice
+    @Query("SELECT COUNT(i) > 0 FROM Invoice i WHERE i.project.id = :projectId " +
+            "AND i.periodStart <= :periodEnd AND i.periodEnd >= :periodStart")
+    boolean existsOverlappingPeriod(@Param("projectId") Long projectId,
+                                    @Param("periodStart") LocalDate periodStart,
+                                    @Param("periodEnd") LocalDate periodEnd);
+
     @Query("SELECT i FROM Invoice i WHERE i.tenant.id = :tenantId AND i.status = :status")
     List<Invoice> findByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") Invoice.InvoiceStatus status);
 }
@@ -1,9 +1,12 @@
 package com.timesheet.timesheet.repository;
 
 import com.timesheet.timesheet.model.Project;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,22 +17,35 @@ import java.util.Optional;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    // Listing queries fetch createdBy with the page; members and totals are loaded in bulk by ProjectService
+    @EntityGraph(attributePaths = "createdBy")
     Page<Project> findByTenantId(Long tenantId, Pageable pageable);
 
     List<Project> findByTenantId(Long tenantId);
 
+    @EntityGraph(attributePaths = "createdBy")
     @Query("SELECT p FROM Project p WHERE p.tenant.id = :tenantId AND p.id = :projectId")
     Optional<Project> findByIdAndTenantId(@Param("projectId") Long projectId, @Param("tenantId") Long tenantId);
 
+    // Invoice generation locks the project so two overlapping periods can't both pass the overlap check
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.tenant.id = :tenantId AND p.id = :projectId")
+    Optional<Project> lockByIdAndTenantId(@Param("projectId") Long projectId, @Param("tenantId") Long tenantId);
+
+    @EntityGraph(attributePaths = "createdBy")
     @Query("SELECT p FROM Project p WHERE p.tenant.id = :tenantId AND p.status = :status")
     List<Project> findByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") Project.ProjectStatus status);
 
+    @Query("SELECT p.id FROM Project p WHERE p.tenant.id = :tenantId AND p.status = :status")
+    List<Long> findIdsByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") Project.ProjectStatus status);
+
     @Query("SELECT COUNT(p) FROM Project p WHERE p.tenant.id = :tenantId")
     Long countByTenantId(@Param("tenantId") Long tenantId);
 
     @Query("SELECT COUNT(p) FROM Project p WHERE p.tenant.id = :tenantId AND p.status = :status")
     Long countByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") Project.ProjectStatus status);
 
+    @EntityGraph(attributePaths = "createdBy")
     @Query("SELECT p FROM Project p JOIN p.members pm WHERE pm.user.id = :userId AND p.tenant.id = :tenantId")
     List<Project> findProjectsByUserIdAndTenantId(@Param("userId") Long userId, @Param("tenantId") Long tenantId);
 }
\ No newline at end of file
@@ -4,10 +4,13 @@ import com.timesheet.timesheet.model.Tenant;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TenantRepository extends JpaRepository<Tenant, Long> {
     Optional<Tenant> findBySubdomain(String subdomain);
     boolean existsBySubdomain(String subdomain);
+    List<Tenant> findByUpdatedAtAfter(LocalDateTime updatedAt);
 }
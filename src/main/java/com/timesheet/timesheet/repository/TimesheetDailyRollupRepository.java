@@ -0,0 +1,24 @@
+package com.timesheet.timesheet.repository;
+
+import com.timesheet.timesheet.dto.projection.DailyHours;
+import com.timesheet.timesheet.model.TimesheetDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TimesheetDailyRollupRepository extends JpaRepository<TimesheetDailyRollup, Long> {
+
+    @Query("SELECT SUM(r.hours) FROM TimesheetDailyRollup r WHERE r.tenantId = :tenantId AND r.date BETWEEN :startDate AND :endDate")
+    BigDecimal sumHoursByTenantIdAndDateBetween(@Param("tenantId") Long tenantId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r.date AS date, SUM(r.hours) AS hours FROM TimesheetDailyRollup r " +
+            "WHERE r.tenantId = :tenantId AND r.userId = :userId AND r.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.date")
+    List<DailyHours> sumHoursByUserIdGroupedByDate(@Param("tenantId") Long tenantId, @Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
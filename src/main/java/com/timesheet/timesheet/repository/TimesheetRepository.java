@@ -1,15 +1,24 @@
 package com.timesheet.timesheet.repository;
 
+import com.timesheet.timesheet.dto.projection.DashboardStats;
+import com.timesheet.timesheet.dto.projection.ProjectCostSummary;
+import com.timesheet.timesheet.dto.projection.TimesheetStatusRow;
 import com.timesheet.timesheet.model.Timesheet;
+import com.timesheet.timesheet.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +27,7 @@ public interface TimesheetRepository extends JpaRepository<Timesheet, Long> {
 
     Page<Timesheet> findByTenantId(Long tenantId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
     @Query("SELECT t FROM Timesheet t WHERE t.tenant.id = :tenantId AND t.id = :timesheetId")
     Optional<Timesheet> findByIdAndTenantId(@Param("timesheetId") Long timesheetId, @Param("tenantId") Long tenantId);
 
@@ -33,6 +43,86 @@ public interface TimesheetRepository extends JpaRepository<Timesheet, Long> {
     @Query("SELECT t FROM Timesheet t WHERE t.tenant.id = :tenantId AND t.status = :status")
     Page<Timesheet> findByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") Timesheet.TimesheetStatus status, Pageable pageable);
 
+    // Listing queries fetch the associations mapped into TimesheetResponse in the page query itself
+    // and count with a separate join-free query, so a page costs two statements regardless of size
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
+    @Query(value = "SELECT t FROM Timesheet t WHERE t.tenant.id = :tenantId",
+            countQuery = "SELECT COUNT(t) FROM Timesheet t WHERE t.tenant.id = :tenantId")
+    Page<Timesheet> findListingByTenantId(@Param("tenantId") Long tenantId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
+    @Query(value = "SELECT t FROM Timesheet t WHERE t.user.id = :userId AND t.tenant.id = :tenantId",
+            countQuery = "SELECT COUNT(t) FROM Timesheet t WHERE t.user.id = :userId AND t.tenant.id = :tenantId")
+    Page<Timesheet> findListingByUserIdAndTenantId(@Param("userId") Long userId, @Param("tenantId") Long tenantId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
+    @Query(value = "SELECT t FROM Timesheet t WHERE t.tenant.id = :tenantId AND t.status = :status",
+            countQuery = "SELECT COUNT(t) FROM Timesheet t WHERE t.tenant.id = :tenantId AND t.status = :status")
+    Page<Timesheet> findListingByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") Timesheet.TimesheetStatus status, Pageable pageable);
+
+    // Keyset listings ordered by (date, id) descending. The first page has no seek predicate; later
+    // pages continue strictly after the last row returned, so the cost does not grow with depth
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
+    @Query("SELECT t FROM Timesheet t WHERE t.tenant.id = :tenantId ORDER BY t.date DESC, t.id DESC")
+    List<Timesheet> findListingByTenantId(@Param("tenantId") Long tenantId, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
+    @Query("SELECT t FROM Timesheet t WHERE t.tenant.id = :tenantId " +
+            "AND (t.date < :date OR (t.date = :date AND t.id < :id)) " +
+            "ORDER BY t.date DESC, t.id DESC")
+    List<Timesheet> findListingByTenantIdBefore(@Param("tenantId") Long tenantId, @Param("date") LocalDate date,
+                                                @Param("id") Long id, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
+    @Query("SELECT t FROM Timesheet t WHERE t.user.id = :userId AND t.tenant.id = :tenantId " +
+            "ORDER BY t.date DESC, t.id DESC")
+    List<Timesheet> findListingByUserIdAndTenantId(@Param("userId") Long userId, @Param("tenantId") Long tenantId, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "project", "approvedBy"})
+    @Query("SELECT t FROM Timesheet t WHERE t.user.id = :userId AND t.tenant.id = :tenantId " +
+            "AND (t.date < :date OR (t.date = :date AND t.id < :id)) " +
+            "ORDER BY t.date DESC, t.id DESC")
+    List<Timesheet> findListingByUserIdAndTenantIdBefore(@Param("userId") Long userId, @Param("tenantId") Long tenantId,
+                                                         @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT COUNT(t) FROM Timesheet t WHERE t.tenant.id = :tenantId")
+    long countByTenantId(@Param("tenantId") Long tenantId);
+
+    @Query("SELECT COUNT(t) FROM Timesheet t WHERE t.user.id = :userId AND t.tenant.id = :tenantId")
+    long countByUserIdAndTenantId(@Param("userId") Long userId, @Param("tenantId") Long tenantId);
+
+    // Bulk approval: lock the target rows first so classification and the UPDATE see the same state
+    @Query(value = "SELECT t.id AS id, t.status AS status FROM timesheets t " +
+            "WHERE t.tenant_id = :tenantId AND t.id IN (:ids) FOR UPDATE",
+            nativeQuery = true)
+    List<TimesheetStatusRow> lockStatusesByIdsAndTenantId(@Param("ids") Collection<Long> ids, @Param("tenantId") Long tenantId);
+
+    @Query(value = "SELECT t.id FROM timesheets t " +
+            "WHERE t.tenant_id = :tenantId AND t.status = 'PENDING' " +
+            "AND (:userId IS NULL OR t.user_id = :userId) " +
+            "AND (:projectId IS NULL OR t.project_id = :projectId) " +
+            "AND (:startDate IS NULL OR t.date >= :startDate) " +
+            "AND (:endDate IS NULL OR t.date <= :endDate) " +
+            "ORDER BY t.id LIMIT :maxRows FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockPendingIds(@Param("tenantId") Long tenantId,
+                              @Param("userId") Long userId,
+                              @Param("projectId") Long projectId,
+                              @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate,
+                              @Param("maxRows") int maxRows);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Timesheet t SET t.status = :status, t.approvedBy = :approver, t.approvedAt = :now, " +
+            "t.rejectionReason = :rejectionReason, t.updatedAt = :now " +
+            "WHERE t.tenant.id = :tenantId AND t.id IN :ids AND t.status = 'PENDING'")
+    int updatePendingStatus(@Param("ids") Collection<Long> ids,
+                            @Param("tenantId") Long tenantId,
+                            @Param("status") Timesheet.TimesheetStatus status,
+                            @Param("approver") User approver,
+                            @Param("rejectionReason") String rejectionReason,
+                            @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(t) FROM Timesheet t WHERE t.tenant.id = :tenantId AND t.status = :status")
     Long countByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") Timesheet.TimesheetStatus status);
 
@@ -42,9 +132,35 @@ public interface TimesheetRepository extends JpaRepository<Timesheet, Long> {
     @Query("SELECT SUM(t.hours) FROM Timesheet t WHERE t.project.id = :projectId AND t.status = 'APPROVED'")
     BigDecimal sumApprovedHoursByProjectId(@Param("projectId") Long projectId);
 
+    // Approved hours and billable cost for a whole page of projects in one grouped query
+    @Query("SELECT t.project.id AS projectId, SUM(t.hours) AS approvedHours, " +
+            "SUM(CASE WHEN t.isBillable = true THEN t.hours * u.hourlyRate ELSE 0 END) AS totalCost " +
+            "FROM Timesheet t JOIN t.user u " +
+            "WHERE t.project.id IN :projectIds AND t.tenant.id = :tenantId AND t.status = 'APPROVED' " +
+            "GROUP BY t.project.id")
+    List<ProjectCostSummary> summarizeApprovedByProjectIds(@Param("projectIds") Collection<Long> projectIds, @Param("tenantId") Long tenantId);
+
     @Query("SELECT SUM(t.hours) FROM Timesheet t WHERE t.tenant.id = :tenantId AND t.date BETWEEN :startDate AND :endDate")
     BigDecimal sumHoursByTenantIdAndDateBetween(@Param("tenantId") Long tenantId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    // All dashboard counters in one round trip; hours come from the daily rollup
+    @Query(value = "SELECT " +
+            "(SELECT COUNT(*) FROM projects p WHERE p.tenant_id = :tenantId) AS totalProjects, " +
+            "(SELECT COUNT(*) FROM projects p WHERE p.tenant_id = :tenantId AND p.status = 'ACTIVE') AS activeProjects, " +
+            "(SELECT COUNT(*) FROM users u WHERE u.tenant_id = :tenantId) AS totalUsers, " +
+            "(SELECT COUNT(*) FROM timesheets t WHERE t.tenant_id = :tenantId AND t.status = 'PENDING') AS pendingTimesheets, " +
+            "h.this_month AS totalHoursThisMonth, h.last_month AS totalHoursLastMonth " +
+            "FROM (SELECT " +
+            "COALESCE(SUM(CASE WHEN r.date >= :monthStart THEN r.hours END), 0) AS this_month, " +
+            "COALESCE(SUM(CASE WHEN r.date < :monthStart THEN r.hours END), 0) AS last_month " +
+            "FROM timesheet_daily_rollups r " +
+            "WHERE r.tenant_id = :tenantId AND r.date BETWEEN :lastMonthStart AND :monthEnd) h",
+            nativeQuery = true)
+    DashboardStats findDashboardStats(@Param("tenantId") Long tenantId,
+                                      @Param("lastMonthStart") LocalDate lastMonthStart,
+                                      @Param("monthStart") LocalDate monthStart,
+                                      @Param("monthEnd") LocalDate monthEnd);
+
 //    @Query("SELECT t FROM Timesheet t WHERE t.tenant.id = :tenantId AND t.date BETWEEN :startDate AND :endDate")
 //    List<Timesheet> findByTenantIdAndDateBetween(@Param("tenantId") Long tenantId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
@@ -1,7 +1,9 @@
 package com.timesheet.timesheet.repository;
 
+import com.timesheet.timesheet.dto.response.UserResponse;
 import com.timesheet.timesheet.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,7 +26,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.tenant.id = :tenantId AND u.role = :role")
     List<User> findByTenantIdAndRole(@Param("tenantId") Long tenantId, @Param("role") User.Role role);
 
+    @Query("SELECT new com.timesheet.timesheet.dto.response.UserResponse(" +
+            "u.id, u.email, u.firstName, u.lastName, cast(u.role as String), u.hourlyRate, u.isActive, " +
+            "u.phoneNumber, u.avatarUrl, t.id, t.name, u.createdAt) " +
+            "FROM User u JOIN u.tenant t WHERE t.id = :tenantId")
+    List<UserResponse> findUserResponsesByTenantId(@Param("tenantId") Long tenantId);
+
+    @Query("SELECT new com.timesheet.timesheet.dto.response.UserResponse(" +
+            "u.id, u.email, u.firstName, u.lastName, cast(u.role as String), u.hourlyRate, u.isActive, " +
+            "u.phoneNumber, u.avatarUrl, t.id, t.name, u.createdAt) " +
+            "FROM User u JOIN u.tenant t WHERE t.id = :tenantId AND u.isActive = true")
+    List<UserResponse> findActiveUserResponsesByTenantId(@Param("tenantId") Long tenantId);
+
     @Query("SELECT COUNT(u) FROM User u WHERE u.tenant.id = :tenantId")
     Long countByTenantId(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
 
@@ -1,10 +1,13 @@
 package com.timesheet.timesheet.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,6 +24,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+
+    @Value("${app.security.claims-auth.enabled:false}")
+    private boolean claimsAuthEnabled;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -28,16 +36,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Claims claims = StringUtils.hasText(jwt)
+                    ? tokenProvider.validateAndGetClaims(jwt).orElse(null)
+                    : null;
+
+            if (claims != null) {
+                Long userId = Long.parseLong(claims.getSubject());
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
+                UserDetails userDetails = canTrustClaims(request, userId, claims)
+                        ? UserPrincipal.create(userId,
+                                claims.get("email", String.class),
+                                claims.get("tenantId", Long.class),
+                                claims.get("role", String.class))
+                        : principalCache.get(userId, userDetailsService::loadUserById);
 
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (userDetails.isEnabled()) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -46,6 +65,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Read-only requests may skip the user lookup and trust the signed claims, unless the
+    // user's role or status changed after the token was issued (refresh tokens carry no role).
+    private boolean canTrustClaims(HttpServletRequest request, Long userId, Claims claims) {
+        return claimsAuthEnabled
+                && HttpMethod.GET.matches(request.getMethod())
+                && claims.get("tenantId") != null
+                && claims.get("role") != null
+                && !revocationRegistry.isRevoked(userId, claims.getIssuedAt());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
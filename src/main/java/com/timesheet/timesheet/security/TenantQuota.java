@@ -0,0 +1,60 @@
+package com.timesheet.timesheet.security;
+
+import com.timesheet.timesheet.config.RateLimitProperties;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free limits for one tenant, or one anonymous client. The rate limit is a token bucket kept as a single "theoretical
+// arrival time" (GCRA): each request advances it by one emission interval, and a request is refused
+// when that would put it more than a full burst ahead of now. One CAS per request, no refill thread.
+class TenantQuota {
+
+    @Getter
+    private final String plan;
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final int maxConcurrent;
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    TenantQuota(String plan, RateLimitProperties.Plan limits) {
+        this.plan = plan;
+        this.emissionIntervalNanos = (long) (1_000_000_000L / limits.getRequestsPerSecond());
+        this.burstWindowNanos = emissionIntervalNanos * Math.max(limits.getBurst(), 1);
+        this.maxConcurrent = limits.getMaxConcurrent();
+    }
+
+    // Returns 0 when the request may proceed, otherwise how long to wait in nanoseconds
+    long tryConsume(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long ahead = next - now;
+            if (ahead > burstWindowNanos) {
+                return ahead - burstWindowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean tryEnter() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+}
@@ -0,0 +1,106 @@
+package com.timesheet.timesheet.security;
+
+import com.timesheet.timesheet.config.TenantContext;
+import com.timesheet.timesheet.dto.response.ApiResponse;
+import com.timesheet.timesheet.exception.TenantQuotaExceededException;
+import com.timesheet.timesheet.util.TenantUtils;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+// Runs after authentication. Authenticated requests are charged to the tenant of the principal, never
+// to a client-supplied X-Tenant-ID, and a header naming another tenant is refused outright.
+// Unauthenticated requests (sign-in, registration, public pages) are limited per client address.
+@Component
+@RequiredArgsConstructor
+public class TenantRateLimitFilter extends OncePerRequestFilter {
+
+    private final TenantRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        UserPrincipal principal = TenantUtils.getCurrentUser();
+        Long requestedTenantId = TenantContext.getTenantId();
+        if (principal != null && requestedTenantId != null && !requestedTenantId.equals(principal.getTenantId())) {
+            writeError(response, HttpStatus.FORBIDDEN, "Tenant does not match the authenticated user");
+            return;
+        }
+
+        if (!rateLimiter.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TenantQuota quota;
+        try {
+            // Behind a proxy, server.forward-headers-strategy makes this the original client address
+            quota = principal != null
+                    ? rateLimiter.acquire(principal.getTenantId())
+                    : rateLimiter.acquireAnonymous(request.getRemoteAddr());
+        } catch (TenantQuotaExceededException ex) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+            writeError(response, HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+            return;
+        }
+
+        boolean releaseLater = false;
+        try {
+            filterChain.doFilter(request, response);
+            // Streamed responses keep the slot until the async request completes
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(quota));
+                releaseLater = true;
+            }
+        } finally {
+            if (!releaseLater) {
+                rateLimiter.release(quota);
+            }
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    @RequiredArgsConstructor
+    private class ReleasingListener implements AsyncListener {
+
+        private final TenantQuota quota;
+
+        // Also called after a timeout or error, so this is the single release point
+        @Override
+        public void onComplete(AsyncEvent event) {
+            rateLimiter.release(quota);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.timesheet.timesheet.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.timesheet.timesheet.config.RateLimitProperties;
+import com.timesheet.timesheet.config.TenantInfo;
+import com.timesheet.timesheet.config.TenantRegistry;
+import com.timesheet.timesheet.exception.TenantQuotaExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Per-tenant request rate and concurrency limits derived from the tenant's subscription plan. Each
+// tenant has its own counters, so tenants never contend with each other. Unauthenticated requests are
+// limited per client address instead, so they can't use up a tenant's quota.
+@Component
+@RequiredArgsConstructor
+public class TenantRateLimiter {
+
+    private static final String ANONYMOUS = "ANONYMOUS";
+
+    private final RateLimitProperties properties;
+    private final TenantRegistry tenantRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, TenantQuota> quotas = new ConcurrentHashMap<>();
+
+    // Bounded and expiring: client addresses are unbounded, tenants are not
+    private final Cache<String, TenantQuota> anonymousQuotas = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // Takes a concurrency slot and a rate token; the caller must release the returned quota when done
+    TenantQuota acquire(Long tenantId) {
+        return acquire(quotaFor(tenantId), "this tenant", String.valueOf(tenantId));
+    }
+
+    TenantQuota acquireAnonymous(String clientAddress) {
+        TenantQuota quota = anonymousQuotas.get(clientAddress,
+                address -> new TenantQuota(ANONYMOUS, properties.getAnonymous()));
+        // Tagged as one series; per-address tags would be unbounded
+        return acquire(quota, "this client", ANONYMOUS.toLowerCase(Locale.ROOT));
+    }
+
+    private TenantQuota acquire(TenantQuota quota, String subject, String tenantTag) {
+        if (!quota.tryEnter()) {
+            reject(tenantTag, "concurrency");
+            throw new TenantQuotaExceededException(
+                    "Too many concurrent requests for " + subject, "concurrency", 1);
+        }
+
+        long waitNanos = quota.tryConsume(System.nanoTime());
+        if (waitNanos > 0) {
+            quota.release();
+            reject(tenantTag, "rate");
+            throw new TenantQuotaExceededException(
+                    "Request rate limit exceeded for " + subject, "rate",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+        return quota;
+    }
+
+    void release(TenantQuota quota) {
+        quota.release();
+    }
+
+    private TenantQuota quotaFor(Long tenantId) {
+        String plan = tenantRegistry.find(tenantId)
+                .map(TenantInfo::getSubscriptionPlan)
+                .map(p -> p.toUpperCase(Locale.ROOT))
+                .filter(properties.getPlans()::containsKey)
+                .orElse(properties.getDefaultPlan());
+
+        TenantQuota quota = quotas.get(tenantId);
+        if (quota != null && quota.getPlan().equals(plan)) {
+            return quota;
+        }
+        // First request, or the plan changed: start fresh with the new limits
+        return quotas.compute(tenantId, (id, existing) -> existing != null && existing.getPlan().equals(plan)
+                ? existing
+                : new TenantQuota(plan, limitsFor(plan)));
+    }
+
+    private RateLimitProperties.Plan limitsFor(String plan) {
+        RateLimitProperties.Plan limits = properties.getPlans().get(plan);
+        return limits != null ? limits : new RateLimitProperties.Plan();
+    }
+
+    private void reject(String tenantTag, String reason) {
+        meterRegistry.counter("tenant.requests.rejected",
+                "tenant", tenantTag, "reason", reason).increment();
+    }
+}
@@ -0,0 +1,43 @@
+package com.timesheet.timesheet.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.timesheet.timesheet.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+@Component
+public class TokenRevocationRegistry {
+
+    // userId -> epoch millis before which issued tokens are no longer trusted on their claims alone.
+    // Entries only need to outlive the longest-lived access token.
+    private final Cache<Long, Long> revokedBefore;
+
+    public TokenRevocationRegistry(@Value("${jwt.expiration}") long jwtExpiration) {
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtExpiration))
+                .build();
+    }
+
+    public void revoke(Long userId) {
+        stamp(userId);
+        // Stamp again after commit so tokens issued while the change was in flight are covered too
+        TransactionUtils.afterCommit(() -> stamp(userId));
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long cutoff = revokedBefore.getIfPresent(userId);
+        if (cutoff == null) {
+            return false;
+        }
+        // iat has second precision, so a token issued in the same second counts as revoked
+        return issuedAt == null || issuedAt.getTime() <= cutoff;
+    }
+
+    private void stamp(Long userId) {
+        revokedBefore.asMap().merge(userId, System.currentTimeMillis(), Math::max);
+    }
+}
@@ -20,6 +20,7 @@ public class UserPrincipal implements UserDetails {
     private Long tenantId;
     private String role;
     private Collection<? extends GrantedAuthority> authorities;
+    private boolean enabled;
 
     public static UserPrincipal create(User user) {
         Collection<GrantedAuthority> authorities = Collections.singletonList(
@@ -32,10 +33,19 @@ public class UserPrincipal implements UserDetails {
                 user.getPassword(),
                 user.getTenant().getId(),
                 user.getRole().name(),
-                authorities
+                authorities,
+                !Boolean.FALSE.equals(user.getIsActive())
         );
     }
 
+    public static UserPrincipal create(Long id, String email, Long tenantId, String role) {
+        Collection<GrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + role)
+        );
+
+        return new UserPrincipal(id, email, null, tenantId, role, authorities, true);
+    }
+
     @Override
     public String getUsername() {
         return email;
@@ -58,6 +68,6 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return enabled;
     }
 }
@@ -0,0 +1,175 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.model.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Background writer for audit_logs. Publishers only enqueue, so auditing adds no INSERT to the request;
+// a single writer thread flushes JDBC batches whenever a full batch is queued or the flush interval
+// passes. The queue is bounded: when it is full new events are dropped and counted rather than
+// blocking request threads. Remaining events are flushed when the application shuts down, after the
+// web server has drained in-flight requests.
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    // Lifecycle beans stop in descending phase order; this is below the web server's graceful shutdown
+    // (DEFAULT_PHASE - 1024) and stop (DEFAULT_PHASE - 2048) phases, so requests still draining can publish
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (tenant_id, user_id, action, entity_type, entity_id, details, ip_address, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMillis;
+
+    private final Queue<AuditLog> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.audit.queue-capacity:100000}") int capacity,
+                          @Value("${app.audit.batch-size:500}") int batchSize,
+                          @Value("${app.audit.flush-interval:1000}") long flushInterval,
+                          @Value("${app.audit.shutdown-timeout:10000}") long shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        this.shutdownTimeoutMillis = shutdownTimeout;
+
+        this.publishedCounter = meterRegistry.counter("audit.events", "outcome", "published");
+        this.droppedCounter = meterRegistry.counter("audit.events", "outcome", "dropped");
+        this.writtenCounter = meterRegistry.counter("audit.events", "outcome", "written");
+        this.failedCounter = meterRegistry.counter("audit.events", "outcome", "failed");
+        Gauge.builder("audit.queue.size", queued, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public void publish(AuditLog event) {
+        // After stop() nothing would write the event; count it instead of reporting it as published
+        if (!running) {
+            droppedCounter.increment();
+            return;
+        }
+        // Reserve a slot first so the bound holds without locking
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+        queue.offer(event);
+        publishedCounter.increment();
+
+        Thread writer = writerThread;
+        if (writer != null && queued.get() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "audit-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Audit writer stopped with {} events still queued", queued.get());
+        }
+        writerThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runWriter() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            drain(batch);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+            if (running && queued.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private void drain(List<AuditLog> batch) {
+        AuditLog event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(event);
+        }
+    }
+
+    private void write(List<AuditLog> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setLong(1, event.getTenantId());
+                ps.setObject(2, event.getUserId(), Types.BIGINT);
+                ps.setString(3, event.getAction());
+                ps.setString(4, event.getEntityType());
+                ps.setObject(5, event.getEntityId(), Types.BIGINT);
+                ps.setString(6, event.getDetails());
+                ps.setString(7, event.getIpAddress());
+                ps.setTimestamp(8, Timestamp.valueOf(event.getCreatedAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to write {} audit events", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.timesheet.timesheet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Maintains monthly RANGE partitions (pYYYYMM plus a catch-all pmax) on audit_logs: splits pmax so
+// upcoming months always have their own partition, and drops whole partitions once they fall out of
+// the retention window, which is far cheaper than deleting rows. Requires the table to have been
+// converted with db/audit-logs-partitioning.sql.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.audit.partitioning.enabled", havingValue = "true")
+public class AuditPartitionManager {
+
+    private static final String TABLE = "audit_logs";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.audit.partitioning.months-ahead:3}") int monthsAhead,
+                                 @Value("${app.audit.partitioning.retention-months:13}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.audit.partitioning.cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, TABLE);
+        if (!partitions.contains("pmax")) {
+            log.warn("{} is not partitioned; run db/audit-logs-partitioning.sql before enabling partition maintenance", TABLE);
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = month.format(PARTITION_NAME);
+            if (!partitions.contains(name)) {
+                addPartition(name, month.plusMonths(1).atDay(1));
+                partitions.add(name);
+            }
+        }
+
+        // A partition pYYYYMM only holds rows of that month, so it can go once the month is past retention
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        for (String name : partitions) {
+            if (name.equals("pmax")) {
+                continue;
+            }
+            YearMonth month;
+            try {
+                month = YearMonth.parse(name, PARTITION_NAME);
+            } catch (RuntimeException e) {
+                continue;  // not one of ours
+            }
+            if (month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+                log.info("Dropped audit partition {} (retention {} months)", name, retentionMonths);
+            }
+        }
+    }
+
+    // Splits the catch-all partition; cheap while pmax is empty, which is the case for future months
+    private void addPartition(String name, LocalDate upperBoundExclusive) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION pmax INTO (" +
+                "PARTITION " + name + " VALUES LESS THAN (TO_DAYS('" + upperBoundExclusive + "')), " +
+                "PARTITION pmax VALUES LESS THAN MAXVALUE)");
+        log.info("Added audit partition {}", name);
+    }
+}
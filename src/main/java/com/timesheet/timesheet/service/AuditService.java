@@ -0,0 +1,133 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.dto.response.AuditLogResponse;
+import com.timesheet.timesheet.dto.response.CursorPageResponse;
+import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.model.AuditLog;
+import com.timesheet.timesheet.repository.AuditLogRepository;
+import com.timesheet.timesheet.util.AuditLogCursor;
+import com.timesheet.timesheet.util.TenantUtils;
+import com.timesheet.timesheet.util.TransactionUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_WINDOW_DAYS = 30;
+
+    private final AuditLogWriter auditLogWriter;
+    private final AuditLogRepository auditLogRepository;
+
+    // Captures who, where and when on the calling thread, and hands the event to the writer only
+    // once the surrounding transaction commits, so rolled back changes are never audited
+    public void record(String action, String entityType, Long entityId, String details) {
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        if (tenantId == null) {
+            return;
+        }
+
+        AuditLog event = AuditLog.builder()
+                .tenantId(tenantId)
+                .userId(TenantUtils.getCurrentUserId())
+                .action(action)
+                .entityType(entityType)
+                .entityId(entityId)
+                .details(details)
+                .ipAddress(currentIpAddress())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        TransactionUtils.afterCommit(() -> auditLogWriter.publish(event));
+    }
+
+    private String currentIpAddress() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    public CursorPageResponse<AuditLogResponse> getAuditLogs(String entityType, Long entityId,
+                                                             LocalDateTime from, LocalDateTime to,
+                                                             String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (entityId != null && entityType == null) {
+            throw new BadRequestException("Entity type is required when filtering by entity id");
+        }
+
+        LocalDateTime windowEnd = to != null ? to : LocalDateTime.now();
+        LocalDateTime windowStart = from != null ? from : windowEnd.minusDays(DEFAULT_WINDOW_DAYS);
+        if (windowStart.isAfter(windowEnd)) {
+            throw new BadRequestException("From must not be after to");
+        }
+
+        // Without a cursor, start at the end of the window
+        LocalDateTime before = windowEnd;
+        Long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            AuditLogCursor position = AuditLogCursor.decode(cursor);
+            before = position.getCreatedAt();
+            beforeId = position.getId();
+        }
+
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        Limit limit = Limit.of(size + 1);
+        List<AuditLog> rows;
+        if (entityId != null) {
+            rows = auditLogRepository.findWindowByTenantIdAndEntity(
+                    tenantId, entityType, entityId, windowStart, before, beforeId, limit);
+        } else if (entityType != null) {
+            rows = auditLogRepository.findWindowByTenantIdAndEntityType(
+                    tenantId, entityType, windowStart, before, beforeId, limit);
+        } else {
+            rows = auditLogRepository.findWindowByTenantId(tenantId, windowStart, before, beforeId, limit);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<AuditLog> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLog lastRow = page.get(page.size() - 1);
+            nextCursor = new AuditLogCursor(lastRow.getCreatedAt(), lastRow.getId()).encode();
+        }
+
+        return CursorPageResponse.<AuditLogResponse>builder()
+                .content(page.stream()
+                        .map(this::toResponse)
+                        .collect(Collectors.toList()))
+                .pageSize(size)
+                .nextCursor(nextCursor)
+                .last(!hasMore)
+                .build();
+    }
+
+    private AuditLogResponse toResponse(AuditLog auditLog) {
+        return AuditLogResponse.builder()
+                .id(auditLog.getId())
+                .userId(auditLog.getUserId())
+                .action(auditLog.getAction())
+                .entityType(auditLog.getEntityType())
+                .entityId(auditLog.getEntityId())
+                .details(auditLog.getDetails())
+                .ipAddress(auditLog.getIpAddress())
+                .createdAt(auditLog.getCreatedAt())
+                .build();
+    }
+}
@@ -1,10 +1,12 @@
 package com.timesheet.timesheet.service;
 
+import com.timesheet.timesheet.config.TenantRegistry;
 import com.timesheet.timesheet.dto.request.LoginRequest;
 import com.timesheet.timesheet.dto.request.RegisterRequest;
 import com.timesheet.timesheet.dto.response.AuthResponse;
 import com.timesheet.timesheet.dto.response.UserResponse;
 import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.mapper.UserMapper;
 import com.timesheet.timesheet.model.Tenant;
 import com.timesheet.timesheet.model.User;
 import com.timesheet.timesheet.repository.TenantRepository;
@@ -13,7 +15,6 @@ import com.timesheet.timesheet.security.JwtTokenProvider;
 import com.timesheet.timesheet.security.UserPrincipal;
 import com.timesheet.timesheet.util.ValidationUtils;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -31,7 +32,8 @@ public class AuthService {
     private final TenantRepository tenantRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final TenantRegistry tenantRegistry;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -67,6 +69,7 @@ public class AuthService {
                 .maxUsers(10)
                 .build();
         tenant = tenantRepository.save(tenant);
+        tenantRegistry.register(tenant);
 
         // Create admin user
         User user = User.builder()
@@ -130,6 +133,7 @@ public class AuthService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
     public UserResponse getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
@@ -141,9 +145,6 @@ public class AuthService {
     }
 
     private UserResponse convertToUserResponse(User user) {
-        UserResponse response = modelMapper.map(user, UserResponse.class);
-        response.setTenantId(user.getTenant().getId());
-        response.setTenantName(user.getTenant().getName());
-        return response;
+        return userMapper.toResponse(user);
     }
 }
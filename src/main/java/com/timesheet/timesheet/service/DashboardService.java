@@ -1,12 +1,12 @@
 package com.timesheet.timesheet.service;
 
+import com.timesheet.timesheet.dto.projection.DailyHours;
+import com.timesheet.timesheet.dto.projection.DashboardStats;
 import com.timesheet.timesheet.dto.response.DashboardStatsResponse;
 import com.timesheet.timesheet.dto.response.HoursChartResponse;
-import com.timesheet.timesheet.model.Project;
-import com.timesheet.timesheet.model.Timesheet;
-import com.timesheet.timesheet.repository.ProjectRepository;
+import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.repository.TimesheetDailyRollupRepository;
 import com.timesheet.timesheet.repository.TimesheetRepository;
-import com.timesheet.timesheet.repository.UserRepository;
 import com.timesheet.timesheet.util.DateUtils;
 import com.timesheet.timesheet.util.TenantUtils;
 import lombok.RequiredArgsConstructor;
@@ -15,107 +15,144 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
-    private final TimesheetRepository timesheetRepository;
-
-    public DashboardStatsResponse getDashboardStats() {
-        Long tenantId = TenantUtils.getCurrentTenantId();
+    private static final int MAX_CHART_DAYS = 366;
 
-        // Get total projects
-        Long totalProjects = projectRepository.countByTenantId(tenantId);
+    private static final String[] DAY_NAMES = Arrays.stream(DayOfWeek.values())
+            .map(day -> day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+            .toArray(String[]::new);
 
-        // Get active projects
-        Long activeProjects = projectRepository.countByTenantIdAndStatus(
-                tenantId, Project.ProjectStatus.ACTIVE);
+    private static final String[] MONTH_NAMES = Arrays.stream(Month.values())
+            .map(month -> month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+            .toArray(String[]::new);
 
-        // Get total users
-        Long totalUsers = userRepository.countByTenantId(tenantId);
+    private static final DateTimeFormatter WEEK_LABEL_FORMATTER =
+            DateTimeFormatter.ofPattern("MMM d", Locale.ENGLISH);
 
-        // Get total hours this month
-        LocalDate firstDayOfMonth = DateUtils.getFirstDayOfMonth();
-        LocalDate lastDayOfMonth = DateUtils.getLastDayOfMonth();
-        BigDecimal totalHoursThisMonth = timesheetRepository.sumHoursByTenantIdAndDateBetween(
-                tenantId, firstDayOfMonth, lastDayOfMonth);
+    private final TimesheetRepository timesheetRepository;
+    private final TimesheetDailyRollupRepository rollupRepository;
+    private final DashboardStatsCache statsCache;
 
-        // Get total hours last month
-        LocalDate firstDayOfPreviousMonth = DateUtils.getFirstDayOfPreviousMonth();
-        LocalDate lastDayOfPreviousMonth = DateUtils.getLastDayOfPreviousMonth();
-        BigDecimal totalHoursLastMonth = timesheetRepository.sumHoursByTenantIdAndDateBetween(
-                tenantId, firstDayOfPreviousMonth, lastDayOfPreviousMonth);
+    public DashboardStatsResponse getDashboardStats() {
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        return statsCache.get(tenantId, this::loadDashboardStats);
+    }
 
-        // Get pending timesheets
-        Long pendingTimesheets = timesheetRepository.countByTenantIdAndStatus(
-                tenantId, Timesheet.TimesheetStatus.PENDING);
+    private DashboardStatsResponse loadDashboardStats(Long tenantId) {
+        DashboardStats stats = timesheetRepository.findDashboardStats(
+                tenantId,
+                DateUtils.getFirstDayOfPreviousMonth(),
+                DateUtils.getFirstDayOfMonth(),
+                DateUtils.getLastDayOfMonth());
 
         return DashboardStatsResponse.builder()
-                .totalProjects(totalProjects)
-                .activeProjects(activeProjects)
-                .totalUsers(totalUsers)
-                .totalHoursThisMonth(totalHoursThisMonth != null ? totalHoursThisMonth : BigDecimal.ZERO)
-                .totalHoursLastMonth(totalHoursLastMonth != null ? totalHoursLastMonth : BigDecimal.ZERO)
-                .pendingTimesheets(pendingTimesheets)
+                .totalProjects(stats.getTotalProjects())
+                .activeProjects(stats.getActiveProjects())
+                .totalUsers(stats.getTotalUsers())
+                .totalHoursThisMonth(stats.getTotalHoursThisMonth() != null ? stats.getTotalHoursThisMonth() : BigDecimal.ZERO)
+                .totalHoursLastMonth(stats.getTotalHoursLastMonth() != null ? stats.getTotalHoursLastMonth() : BigDecimal.ZERO)
+                .pendingTimesheets(stats.getPendingTimesheets())
                 .build();
     }
 
-    public List<HoursChartResponse> getHoursChartData(int days) {
+    public List<HoursChartResponse> getHoursChartData(int days, String granularity) {
+        if (days < 1 || days > MAX_CHART_DAYS) {
+            throw new BadRequestException("Days must be between 1 and " + MAX_CHART_DAYS);
+        }
+
         Long tenantId = TenantUtils.getCurrentTenantId();
         Long userId = TenantUtils.getCurrentUserId();
+        ChartGranularity bucketSize = resolveGranularity(granularity, days);
 
         // Get date range
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days - 1);
 
-        // Get timesheets for date range
-        List<Timesheet> timesheets = timesheetRepository.findByTenantIdAndDateBetween(
-                tenantId, startDate, endDate);
-
-        // Filter by current user for "my hours"
-        List<Timesheet> userTimesheets = timesheets.stream()
-                .filter(t -> t.getUser().getId().equals(userId))
-                .collect(Collectors.toList());
-
-        // Group by date and sum hours
-        Map<LocalDate, BigDecimal> hoursByDate = userTimesheets.stream()
-                .collect(Collectors.groupingBy(
-                        Timesheet::getDate,
-                        Collectors.reducing(
-                                BigDecimal.ZERO,
-                                Timesheet::getHours,
-                                BigDecimal::add
-                        )
-                ));
-
-        // Create chart data for all days in range
+        // Daily totals for the current user, aggregated by the database
+        BigDecimal[] hoursByDay = new BigDecimal[days];
+        for (DailyHours row : rollupRepository.sumHoursByUserIdGroupedByDate(tenantId, userId, startDate, endDate)) {
+            hoursByDay[(int) ChronoUnit.DAYS.between(startDate, row.getDate())] = row.getHours();
+        }
+
+        // Walk the range once, filling empty days with zero and closing a bucket when it changes
         List<HoursChartResponse> chartData = new ArrayList<>();
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDate bucketStart = startDate;
+        LocalDate bucketKey = bucketKey(startDate, bucketSize);
+        BigDecimal bucketHours = BigDecimal.ZERO;
 
         for (int i = 0; i < days; i++) {
             LocalDate date = startDate.plusDays(i);
-            DayOfWeek dayOfWeek = date.getDayOfWeek();
-            String dayName = dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+            LocalDate key = bucketKey(date, bucketSize);
+
+            if (!key.equals(bucketKey)) {
+                chartData.add(toChartPoint(bucketStart, bucketSize, bucketHours));
+                bucketStart = date;
+                bucketKey = key;
+                bucketHours = BigDecimal.ZERO;
+            }
+
+            if (hoursByDay[i] != null) {
+                bucketHours = bucketHours.add(hoursByDay[i]);
+            }
+        }
+        chartData.add(toChartPoint(bucketStart, bucketSize, bucketHours));
 
-            BigDecimal hours = hoursByDate.getOrDefault(date, BigDecimal.ZERO);
+        return chartData;
+    }
 
-            chartData.add(HoursChartResponse.builder()
-                    .name(dayName)
-                    .date(date.format(dateFormatter))
-                    .hours(hours)
-                    .build());
+    private ChartGranularity resolveGranularity(String granularity, int days) {
+        if (granularity != null) {
+            try {
+                return ChartGranularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Granularity must be one of DAY, WEEK or MONTH");
+            }
         }
 
-        return chartData;
+        if (days <= 31) {
+            return ChartGranularity.DAY;
+        }
+        return days <= 183 ? ChartGranularity.WEEK : ChartGranularity.MONTH;
+    }
+
+    private LocalDate bucketKey(LocalDate date, ChartGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    private HoursChartResponse toChartPoint(LocalDate bucketStart, ChartGranularity granularity, BigDecimal hours) {
+        String name = switch (granularity) {
+            case DAY -> DAY_NAMES[bucketStart.getDayOfWeek().ordinal()];
+            case WEEK -> bucketStart.format(WEEK_LABEL_FORMATTER);
+            case MONTH -> MONTH_NAMES[bucketStart.getMonthValue() - 1];
+        };
+
+        return HoursChartResponse.builder()
+                .name(name)
+                .date(bucketStart.format(DateTimeFormatter.ISO_LOCAL_DATE))
+                .hours(hours)
+                .build();
+    }
+
+    public enum ChartGranularity {
+        DAY,
+        WEEK,
+        MONTH
     }
 }
\ No newline at end of file
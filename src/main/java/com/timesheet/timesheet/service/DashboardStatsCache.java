@@ -0,0 +1,40 @@
+package com.timesheet.timesheet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.timesheet.timesheet.dto.response.DashboardStatsResponse;
+import com.timesheet.timesheet.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class DashboardStatsCache {
+
+    private final Cache<Long, DashboardStatsResponse> cache;
+
+    public DashboardStatsCache(@Value("${app.dashboard.stats-cache.max-size:10000}") long maxSize,
+                               @Value("${app.dashboard.stats-cache.ttl:10000}") long ttl,
+                               MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "dashboardStats");
+    }
+
+    // Concurrent callers for the same tenant wait on a single load instead of each running the query
+    public DashboardStatsResponse get(Long tenantId, Function<Long, DashboardStatsResponse> loader) {
+        return cache.get(tenantId, loader);
+    }
+
+    public void invalidate(Long tenantId) {
+        TransactionUtils.afterCommit(() -> cache.invalidate(tenantId));
+    }
+}
@@ -0,0 +1,32 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.util.TransactionUtils;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+// Explicit second-level cache evictions for writes Hibernate cannot attribute to a cached entity or
+// collection. Entity updates through the session keep READ_WRITE regions coherent on their own.
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private static final String PROJECT_MEMBERS_ROLE = Project.class.getName() + ".members";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Memberships are written through ProjectMemberRepository rather than Project.members, so the
+    // cached collection is not updated. Evicted now and again after commit, so a reader racing the
+    // commit cannot leave the old membership cached.
+    public void evictProjectMembers(Long projectId) {
+        cache().evictCollectionData(PROJECT_MEMBERS_ROLE, projectId);
+        TransactionUtils.afterCommit(() -> cache().evictCollectionData(PROJECT_MEMBERS_ROLE, projectId));
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
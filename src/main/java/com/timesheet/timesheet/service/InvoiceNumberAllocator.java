@@ -0,0 +1,30 @@
+package com.timesheet.timesheet.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Hands out invoice numbers from a per-tenant counter row. The upsert increments atomically and
+// LAST_INSERT_ID(expr) returns the new value on the same connection, so concurrent generators never
+// race on a check-then-insert. Joins the caller's transaction, so a rolled back invoice also rolls
+// back its number and the sequence has no gaps; the counter row stays locked until that transaction
+// ends, so callers allocate as their last step.
+@Component
+@RequiredArgsConstructor
+public class InvoiceNumberAllocator {
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO invoice_sequences (tenant_id, last_value) VALUES (?, LAST_INSERT_ID(1)) " +
+            "ON DUPLICATE KEY UPDATE last_value = LAST_INSERT_ID(last_value + 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String allocate(Long tenantId) {
+        jdbcTemplate.update(INCREMENT_SQL, tenantId);
+        Long value = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        return String.format("INV-%d-%06d", tenantId, value);
+    }
+}
@@ -0,0 +1,263 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.dto.request.InvoiceGenerationRequest;
+import com.timesheet.timesheet.dto.response.InvoiceGenerationResult;
+import com.timesheet.timesheet.dto.response.InvoiceResponse;
+import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.exception.ResourceNotFoundException;
+import com.timesheet.timesheet.mapper.InvoiceMapper;
+import com.timesheet.timesheet.model.Invoice;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.repository.InvoiceLineItemRepository;
+import com.timesheet.timesheet.repository.InvoiceRepository;
+import com.timesheet.timesheet.repository.ProjectRepository;
+import com.timesheet.timesheet.repository.TenantRepository;
+import com.timesheet.timesheet.util.TenantUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class InvoiceService {
+
+    private static final String BILLABLE_FILTER =
+            "WHERE t.tenant_id = ? AND t.project_id = ? AND t.status = 'APPROVED' " +
+            "AND t.is_billable = TRUE AND t.date BETWEEN ? AND ?";
+
+    private static final String HAS_BILLABLE_TIME_SQL =
+            "SELECT COUNT(*) FROM (SELECT 1 FROM timesheets t " + BILLABLE_FILTER + " LIMIT 1) AS billable";
+
+    // Builds every line item of an invoice in one grouped INSERT ... SELECT
+    private static final String INSERT_LINE_ITEMS_SQL =
+            "INSERT INTO invoice_line_items (invoice_id, user_id, hours, hourly_rate, amount) " +
+            "SELECT ?, t.user_id, SUM(t.hours), COALESCE(u.hourly_rate, 0), " +
+            "ROUND(SUM(t.hours) * COALESCE(u.hourly_rate, 0), 2) " +
+            "FROM timesheets t JOIN users u ON u.id = t.user_id " +
+            BILLABLE_FILTER + " " +
+            "GROUP BY t.user_id, u.hourly_rate";
+
+    private static final String SUM_LINE_ITEMS_SQL =
+            "SELECT COALESCE(SUM(amount), 0) FROM invoice_line_items WHERE invoice_id = ?";
+
+    private final InvoiceRepository invoiceRepository;
+    private final InvoiceLineItemRepository invoiceLineItemRepository;
+    private final ProjectRepository projectRepository;
+    private final TenantRepository tenantRepository;
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
+    private final InvoiceMapper invoiceMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BigDecimal taxRate;
+    private final int paymentTermsDays;
+    private final ThreadPoolTaskExecutor invoiceExecutor;
+
+    public InvoiceService(InvoiceRepository invoiceRepository,
+                          InvoiceLineItemRepository invoiceLineItemRepository,
+                          ProjectRepository projectRepository,
+                          TenantRepository tenantRepository,
+                          InvoiceNumberAllocator invoiceNumberAllocator,
+                          InvoiceMapper invoiceMapper,
+                          JdbcTemplate jdbcTemplate,
+                          TransactionTemplate transactionTemplate,
+                          TaskDecorator taskDecorator,
+                          @Value("${app.invoice.tax-rate:0}") BigDecimal taxRate,
+                          @Value("${app.invoice.payment-terms-days:30}") int paymentTermsDays,
+                          @Value("${app.invoice.executor.pool-size:4}") int poolSize,
+                          @Value("${app.invoice.executor.queue-capacity:100}") int queueCapacity,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.invoiceRepository = invoiceRepository;
+        this.invoiceLineItemRepository = invoiceLineItemRepository;
+        this.projectRepository = projectRepository;
+        this.tenantRepository = tenantRepository;
+        this.invoiceNumberAllocator = invoiceNumberAllocator;
+        this.invoiceMapper = invoiceMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.taxRate = taxRate;
+        this.paymentTermsDays = paymentTermsDays;
+
+        // Bounded pool for tenant-wide runs; with a full queue the submitting thread runs the task
+        // itself, which throttles submission instead of rejecting it. Kept private so it doesn't
+        // replace Spring's default task executor.
+        this.invoiceExecutor = new ThreadPoolTaskExecutor();
+        invoiceExecutor.setCorePoolSize(poolSize);
+        invoiceExecutor.setMaxPoolSize(poolSize);
+        invoiceExecutor.setQueueCapacity(queueCapacity);
+        invoiceExecutor.setThreadNamePrefix("invoice-");
+        invoiceExecutor.setTaskDecorator(taskDecorator);
+        invoiceExecutor.setVirtualThreads(virtualThreads);
+        invoiceExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        invoiceExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        invoiceExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        invoiceExecutor.shutdown();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<InvoiceResponse> getInvoices(Pageable pageable) {
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        return invoiceRepository.findByTenantId(tenantId, pageable)
+                .map(invoice -> invoiceMapper.toResponse(invoice, null));
+    }
+
+    @Transactional(readOnly = true)
+    public InvoiceResponse getInvoiceById(Long id) {
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        Invoice invoice = invoiceRepository.findByIdAndTenantId(id, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice", "id", id));
+
+        return invoiceMapper.toResponse(invoice, invoiceLineItemRepository.findWithUserByInvoiceId(id));
+    }
+
+    public InvoiceResponse generateInvoice(InvoiceGenerationRequest request) {
+        validatePeriod(request);
+        if (request.getProjectId() == null) {
+            throw new BadRequestException("Project ID is required");
+        }
+
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        InvoiceGenerationResult result;
+        try {
+            result = generateInTransaction(tenantId, request.getProjectId(), request);
+        } catch (DataIntegrityViolationException e) {
+            result = alreadyInvoiced(request.getProjectId());
+        }
+
+        switch (result.getResult()) {
+            case "NO_BILLABLE_TIME":
+                throw new BadRequestException("No approved billable time for this project in the period");
+            case "ALREADY_INVOICED":
+                throw new BadRequestException("An invoice for this project already covers part of the period");
+            default:
+                return getInvoiceById(result.getInvoiceId());
+        }
+    }
+
+    // Generates one invoice per active project on the bounded executor; every project gets its own
+    // transaction, so a failure for one project doesn't affect the others
+    public List<InvoiceGenerationResult> generateForAllProjects(InvoiceGenerationRequest request) {
+        validatePeriod(request);
+        Long tenantId = TenantUtils.getCurrentTenantId();
+
+        List<Long> projectIds = projectRepository.findIdsByTenantIdAndStatus(tenantId, Project.ProjectStatus.ACTIVE);
+
+        List<CompletableFuture<InvoiceGenerationResult>> futures = projectIds.stream()
+                .map(projectId -> CompletableFuture.supplyAsync(
+                        () -> generateQuietly(tenantId, projectId, request), invoiceExecutor))
+                .collect(Collectors.toList());
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    private InvoiceGenerationResult generateQuietly(Long tenantId, Long projectId, InvoiceGenerationRequest request) {
+        try {
+            return generateInTransaction(tenantId, projectId, request);
+        } catch (DataIntegrityViolationException e) {
+            return alreadyInvoiced(projectId);
+        } catch (RuntimeException e) {
+            log.warn("Invoice generation failed for project {} of tenant {}", projectId, tenantId, e);
+            return InvoiceGenerationResult.builder()
+                    .projectId(projectId)
+                    .result("FAILED")
+                    .message(e.getMessage())
+                    .build();
+        }
+    }
+
+    // Takes the tenant explicitly because it also runs on executor threads without a request context.
+    // Uses a single connection: the invoice number is allocated in this transaction, after the line
+    // items, so the tenant's counter row is only locked for the final update and commit.
+    private InvoiceGenerationResult generateInTransaction(Long tenantId, Long projectId, InvoiceGenerationRequest request) {
+        return transactionTemplate.execute(status -> {
+            // Locked before the overlap check so concurrent requests for the project run one at a time
+            Project project = projectRepository.lockByIdAndTenantId(projectId, tenantId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+
+            if (invoiceRepository.existsOverlappingPeriod(projectId, request.getPeriodStart(), request.getPeriodEnd())) {
+                return alreadyInvoiced(projectId);
+            }
+
+            Object[] filterArgs = {tenantId, projectId,
+                    Date.valueOf(request.getPeriodStart()), Date.valueOf(request.getPeriodEnd())};
+            Long billableRows = jdbcTemplate.queryForObject(HAS_BILLABLE_TIME_SQL, Long.class, filterArgs);
+            if (billableRows == null || billableRows == 0) {
+                return InvoiceGenerationResult.builder()
+                        .projectId(projectId)
+                        .result("NO_BILLABLE_TIME")
+                        .build();
+            }
+
+            LocalDate today = LocalDate.now();
+            Invoice invoice = Invoice.builder()
+                    .tenant(tenantRepository.getReferenceById(tenantId))
+                    .project(project)
+                    .invoiceNumber("PENDING-" + UUID.randomUUID())  // unique placeholder, never committed
+                    .invoiceDate(today)
+                    .dueDate(today.plusDays(paymentTermsDays))
+                    .periodStart(request.getPeriodStart())
+                    .periodEnd(request.getPeriodEnd())
+                    .totalAmount(BigDecimal.ZERO)
+                    .taxAmount(BigDecimal.ZERO)
+                    .status(Invoice.InvoiceStatus.DRAFT)
+                    .notes(request.getNotes())
+                    .build();
+            invoice = invoiceRepository.saveAndFlush(invoice);
+
+            jdbcTemplate.update(INSERT_LINE_ITEMS_SQL,
+                    invoice.getId(), filterArgs[0], filterArgs[1], filterArgs[2], filterArgs[3]);
+
+            // Total includes tax
+            BigDecimal subtotal = jdbcTemplate.queryForObject(SUM_LINE_ITEMS_SQL, BigDecimal.class, invoice.getId());
+            BigDecimal tax = subtotal.multiply(taxRate).setScale(2, RoundingMode.HALF_UP);
+            invoice.setTaxAmount(tax);
+            invoice.setTotalAmount(subtotal.add(tax));
+            invoice.setInvoiceNumber(invoiceNumberAllocator.allocate(tenantId));
+
+            return InvoiceGenerationResult.builder()
+                    .projectId(projectId)
+                    .result("GENERATED")
+                    .invoiceId(invoice.getId())
+                    .invoiceNumber(invoice.getInvoiceNumber())
+                    .totalAmount(invoice.getTotalAmount())
+                    .build();
+        });
+    }
+
+    private InvoiceGenerationResult alreadyInvoiced(Long projectId) {
+        return InvoiceGenerationResult.builder()
+                .projectId(projectId)
+                .result("ALREADY_INVOICED")
+                .build();
+    }
+
+    private void validatePeriod(InvoiceGenerationRequest request) {
+        if (request.getPeriodStart().isAfter(request.getPeriodEnd())) {
+            throw new BadRequestException("Period start must not be after period end");
+        }
+    }
+}
@@ -1,52 +1,66 @@
 package com.timesheet.timesheet.service;
 
+import com.timesheet.timesheet.config.TenantRegistry;
+import com.timesheet.timesheet.dto.projection.ProjectCostSummary;
 import com.timesheet.timesheet.dto.request.ProjectRequest;
 import com.timesheet.timesheet.dto.response.ProjectMemberResponse;
 import com.timesheet.timesheet.dto.response.ProjectResponse;
-import com.timesheet.timesheet.dto.response.UserResponse;
 import com.timesheet.timesheet.exception.BadRequestException;
 import com.timesheet.timesheet.exception.ResourceNotFoundException;
+import com.timesheet.timesheet.mapper.ProjectMapper;
 import com.timesheet.timesheet.model.*;
 import com.timesheet.timesheet.repository.*;
 import com.timesheet.timesheet.util.TenantUtils;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    // Keeps IN lists of the enrichment queries within a reasonable size
+    private static final int ENRICHMENT_BATCH_SIZE = 500;
+
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
+    private final TenantRegistry tenantRegistry;
     private final TimesheetRepository timesheetRepository;
-    private final ModelMapper modelMapper;
+    private final ProjectMapper projectMapper;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final AuditService auditService;
+    private final EntityCacheEvictor entityCacheEvictor;
 
+    @Transactional(readOnly = true)
     public Page<ProjectResponse> getAllProjects(Pageable pageable) {
         Long tenantId = TenantUtils.getCurrentTenantId();
         Page<Project> projects = projectRepository.findByTenantId(tenantId, pageable);
-        return projects.map(this::convertToProjectResponse);
+        List<ProjectResponse> content = convertToProjectResponses(projects.getContent());
+        return new PageImpl<>(content, projects.getPageable(), projects.getTotalElements());
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getAllActiveProjects() {
         Long tenantId = TenantUtils.getCurrentTenantId();
         List<Project> projects = projectRepository.findByTenantIdAndStatus(
                 tenantId, Project.ProjectStatus.ACTIVE);
-        return projects.stream()
-                .map(this::convertToProjectResponse)
-                .collect(Collectors.toList());
+        return convertToProjectResponses(projects);
     }
 
+    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long id) {
         Long tenantId = TenantUtils.getCurrentTenantId();
         Project project = projectRepository.findByIdAndTenantId(id, tenantId)
@@ -55,14 +69,13 @@ public class ProjectService {
         return convertToProjectResponse(project);
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getMyProjects() {
         Long tenantId = TenantUtils.getCurrentTenantId();
         Long userId = TenantUtils.getCurrentUserId();
 
         List<Project> projects = projectRepository.findProjectsByUserIdAndTenantId(userId, tenantId);
-        return projects.stream()
-                .map(this::convertToProjectResponse)
-                .collect(Collectors.toList());
+        return convertToProjectResponses(projects);
     }
 
     @Transactional
@@ -70,8 +83,10 @@ public class ProjectService {
         Long tenantId = TenantUtils.getCurrentTenantId();
         Long userId = TenantUtils.getCurrentUserId();
 
-        Tenant tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Tenant", "id", tenantId));
+        if (!tenantRegistry.exists(tenantId)) {
+            throw new ResourceNotFoundException("Tenant", "id", tenantId);
+        }
+        Tenant tenant = tenantRepository.getReferenceById(tenantId);
 
         User createdBy = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
@@ -92,6 +107,8 @@ public class ProjectService {
                 .build();
 
         project = projectRepository.save(project);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record("CREATE", "Project", project.getId(), null);
 
         // Add members if provided
         if (request.getMemberIds() != null && !request.getMemberIds().isEmpty()) {
@@ -123,6 +140,8 @@ public class ProjectService {
         }
 
         project = projectRepository.save(project);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record("UPDATE", "Project", project.getId(), null);
         return convertToProjectResponse(project);
     }
 
@@ -134,6 +153,8 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
         projectRepository.delete(project);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record("DELETE", "Project", id, null);
     }
 
     @Transactional
@@ -161,6 +182,8 @@ public class ProjectService {
                 .build();
 
         projectMemberRepository.save(member);
+        entityCacheEvictor.evictProjectMembers(projectId);
+        auditService.record("ADD_MEMBER", "Project", projectId, "userId=" + userId);
     }
 
     @Transactional
@@ -171,52 +194,51 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
         projectMemberRepository.deleteByProjectIdAndUserId(projectId, userId);
+        entityCacheEvictor.evictProjectMembers(projectId);
+        auditService.record("REMOVE_MEMBER", "Project", projectId, "userId=" + userId);
     }
 
     private ProjectResponse convertToProjectResponse(Project project) {
-        ProjectResponse response = modelMapper.map(project, ProjectResponse.class);
+        return convertToProjectResponses(List.of(project)).get(0);
+    }
 
-        // Convert members
-        List<ProjectMemberResponse> members = project.getMembers().stream()
-                .map(this::convertToProjectMemberResponse)
-                .collect(Collectors.toList());
-        response.setMembers(members);
+    // Loads hours, cost and members for all projects with a fixed number of grouped queries
+    // per batch instead of several queries per project
+    private List<ProjectResponse> convertToProjectResponses(List<Project> projects) {
+        Long tenantId = TenantUtils.getCurrentTenantId();
 
-        // Calculate total hours and cost
-        BigDecimal totalHours = timesheetRepository.sumApprovedHoursByProjectId(project.getId());
-        response.setTotalHours(totalHours != null ? totalHours : BigDecimal.ZERO);
+        Map<Long, ProjectCostSummary> summaries = new HashMap<>();
+        Map<Long, List<ProjectMemberResponse>> membersByProject = new HashMap<>();
 
-        // Calculate total cost based on hourly rates
-        BigDecimal totalCost = calculateProjectCost(project.getId());
-        response.setTotalCost(totalCost);
+        List<Long> projectIds = projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
 
-        return response;
-    }
+        for (int from = 0; from < projectIds.size(); from += ENRICHMENT_BATCH_SIZE) {
+            List<Long> batch = projectIds.subList(from, Math.min(from + ENRICHMENT_BATCH_SIZE, projectIds.size()));
+
+            timesheetRepository.summarizeApprovedByProjectIds(batch, tenantId)
+                    .forEach(summary -> summaries.put(summary.getProjectId(), summary));
 
-    private ProjectMemberResponse convertToProjectMemberResponse(ProjectMember member) {
-        ProjectMemberResponse response = new ProjectMemberResponse();
-        response.setId(member.getId());
-        response.setRole(member.getRole().name());
-        response.setAssignedAt(member.getAssignedAt());
+            projectMemberRepository.findWithUserByProjectIdIn(batch)
+                    .forEach(member -> membersByProject
+                            .computeIfAbsent(member.getProject().getId(), id -> new ArrayList<>())
+                            .add(projectMapper.toMemberResponse(member)));
+        }
 
-        UserResponse userResponse = modelMapper.map(member.getUser(), UserResponse.class);
-        response.setUser(userResponse);
+        List<ProjectResponse> responses = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            ProjectResponse response = projectMapper.toResponse(project);
+            response.setMembers(membersByProject.getOrDefault(project.getId(), new ArrayList<>()));
 
-        return response;
-    }
+            ProjectCostSummary summary = summaries.get(project.getId());
+            response.setTotalHours(summary != null && summary.getApprovedHours() != null
+                    ? summary.getApprovedHours() : BigDecimal.ZERO);
+            response.setTotalCost(summary != null && summary.getTotalCost() != null
+                    ? summary.getTotalCost() : BigDecimal.ZERO);
 
-    private BigDecimal calculateProjectCost(Long projectId) {
-        List<Timesheet> timesheets = timesheetRepository.findByProjectIdAndTenantId(
-                projectId, TenantUtils.getCurrentTenantId());
-
-        return timesheets.stream()
-                .filter(t -> t.getStatus() == Timesheet.TimesheetStatus.APPROVED)
-                .filter(t -> t.getIsBillable())
-                .map(t -> {
-                    BigDecimal hours = t.getHours();
-                    BigDecimal rate = t.getUser().getHourlyRate();
-                    return rate != null ? hours.multiply(rate) : BigDecimal.ZERO;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            responses.add(response);
+        }
+        return responses;
     }
 }
@@ -0,0 +1,251 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.model.Timesheet;
+import com.timesheet.timesheet.model.User;
+import com.timesheet.timesheet.security.UserPrincipal;
+import com.timesheet.timesheet.util.TenantUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Writes timesheet exports straight from a forward-only JDBC cursor to the response stream, one row
+// at a time, so memory use does not depend on how many rows the export covers
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimesheetExportService {
+
+    private static final String SELECT_SQL =
+            "SELECT t.id, t.date, t.user_id, u.email, u.first_name, u.last_name, t.project_id, p.name AS project_name, " +
+            "t.hours, t.is_billable, t.status, t.description, t.approved_at " +
+            "FROM timesheets t " +
+            "JOIN users u ON u.id = t.user_id " +
+            "JOIN projects p ON p.id = t.project_id " +
+            "WHERE t.tenant_id = ?";
+
+    private static final String CSV_HEADER =
+            "id,date,userId,email,firstName,lastName,projectId,projectName,hours,isBillable,status,description,approvedAt";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the whole result
+    @Value("${app.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    @Getter
+    public enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String extension;
+
+        ExportFormat(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    // Everything the export needs from the request thread; the response body is written on another thread
+    @Getter
+    @AllArgsConstructor
+    public static class ExportRequest {
+        private final ExportFormat format;
+        private final Long tenantId;
+        private final Long userId;
+        private final Long projectId;
+        private final Timesheet.TimesheetStatus status;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+    }
+
+    public ExportRequest prepareExport(String format, Long userId, Long projectId, String status,
+                                       LocalDate startDate, LocalDate endDate) {
+        UserPrincipal currentUser = TenantUtils.getCurrentUser();
+
+        // Employees can only export their own entries
+        boolean canExportAll = User.Role.ADMIN.name().equals(currentUser.getRole())
+                || User.Role.MANAGER.name().equals(currentUser.getRole());
+        Long effectiveUserId = canExportAll ? userId : currentUser.getId();
+
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date must not be after end date");
+        }
+
+        Timesheet.TimesheetStatus statusFilter = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                statusFilter = Timesheet.TimesheetStatus.valueOf(status.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid status: " + status);
+            }
+        }
+
+        return new ExportRequest(ExportFormat.from(format), TenantUtils.getCurrentTenantId(),
+                effectiveUserId, projectId, statusFilter, startDate, endDate);
+    }
+
+    public void writeExport(ExportRequest request, OutputStream outputStream) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(request.getTenantId());
+
+        if (request.getUserId() != null) {
+            sql.append(" AND t.user_id = ?");
+            args.add(request.getUserId());
+        }
+        if (request.getProjectId() != null) {
+            sql.append(" AND t.project_id = ?");
+            args.add(request.getProjectId());
+        }
+        if (request.getStatus() != null) {
+            sql.append(" AND t.status = ?");
+            args.add(request.getStatus().name());
+        }
+        if (request.getStartDate() != null) {
+            sql.append(" AND t.date >= ?");
+            args.add(Date.valueOf(request.getStartDate()));
+        }
+        if (request.getEndDate() != null) {
+            sql.append(" AND t.date <= ?");
+            args.add(Date.valueOf(request.getEndDate()));
+        }
+        sql.append(" ORDER BY t.date, t.id");
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (request.getFormat() == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                return statement;
+            }, rs -> {
+                try {
+                    if (request.getFormat() == ExportFormat.CSV) {
+                        writeCsvRow(writer, rs);
+                    } else {
+                        writeJsonRow(writer, rs);
+                    }
+                } catch (IOException e) {
+                    // Client went away; abort the cursor instead of reading the remaining rows
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("Exported {} timesheet rows for tenant {}", rows[0], request.getTenantId());
+    }
+
+    private void writeCsvRow(Writer writer, ResultSet rs) throws SQLException, IOException {
+        Timestamp approvedAt = rs.getTimestamp("approved_at");
+
+        writer.write(String.valueOf(rs.getLong("id")));
+        writer.write(',');
+        writer.write(rs.getDate("date").toString());
+        writer.write(',');
+        writer.write(String.valueOf(rs.getLong("user_id")));
+        writer.write(',');
+        writer.write(csv(rs.getString("email")));
+        writer.write(',');
+        writer.write(csv(rs.getString("first_name")));
+        writer.write(',');
+        writer.write(csv(rs.getString("last_name")));
+        writer.write(',');
+        writer.write(String.valueOf(rs.getLong("project_id")));
+        writer.write(',');
+        writer.write(csv(rs.getString("project_name")));
+        writer.write(',');
+        writer.write(rs.getBigDecimal("hours").toPlainString());
+        writer.write(',');
+        writer.write(String.valueOf(rs.getBoolean("is_billable")));
+        writer.write(',');
+        writer.write(rs.getString("status"));
+        writer.write(',');
+        writer.write(csv(rs.getString("description")));
+        writer.write(',');
+        writer.write(approvedAt != null ? approvedAt.toLocalDateTime().toString() : "");
+        writer.write('\n');
+    }
+
+    private void writeJsonRow(Writer writer, ResultSet rs) throws SQLException, IOException {
+        Timestamp approvedAt = rs.getTimestamp("approved_at");
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", rs.getLong("id"));
+        row.put("date", rs.getDate("date").toString());
+        row.put("userId", rs.getLong("user_id"));
+        row.put("email", rs.getString("email"));
+        row.put("firstName", rs.getString("first_name"));
+        row.put("lastName", rs.getString("last_name"));
+        row.put("projectId", rs.getLong("project_id"));
+        row.put("projectName", rs.getString("project_name"));
+        row.put("hours", rs.getBigDecimal("hours"));
+        row.put("isBillable", rs.getBoolean("is_billable"));
+        row.put("status", rs.getString("status"));
+        row.put("description", rs.getString("description"));
+        row.put("approvedAt", approvedAt != null ? approvedAt.toLocalDateTime().toString() : null);
+
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
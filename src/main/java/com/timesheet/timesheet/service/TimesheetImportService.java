@@ -0,0 +1,412 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.config.TenantRegistry;
+import com.timesheet.timesheet.dto.response.TimesheetImportResponse;
+import com.timesheet.timesheet.dto.response.TimesheetImportResponse.ImportRowError;
+import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.exception.ResourceNotFoundException;
+import com.timesheet.timesheet.model.Timesheet;
+import com.timesheet.timesheet.model.User;
+import com.timesheet.timesheet.security.UserPrincipal;
+import com.timesheet.timesheet.util.TenantUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.csv.CsvMapper;
+import tools.jackson.dataformat.csv.CsvReadFeature;
+import tools.jackson.dataformat.csv.CsvSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Streams CSV, JSON array or NDJSON timesheet exports into the timesheets table. Rows are validated as
+// they are read and written in JDBC batches, each batch in its own transaction together with its
+// rollup deltas, so one bad batch never discards rows already imported.
+@Slf4j
+@Service
+public class TimesheetImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO timesheets " +
+            "(tenant_id, user_id, project_id, date, hours, description, is_billable, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final BigDecimal MAX_HOURS = new BigDecimal("24");
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    // Header row names the columns; quoted fields may contain commas, "" escapes and line breaks
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvReadFeature.SKIP_EMPTY_LINES)
+            .build();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final TenantRegistry tenantRegistry;
+    private final TimesheetRollupService rollupService;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final AuditService auditService;
+    private final int batchSize;
+
+    public TimesheetImportService(JdbcTemplate jdbcTemplate,
+                                  NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  TenantRegistry tenantRegistry,
+                                  TimesheetRollupService rollupService,
+                                  DashboardStatsCache dashboardStatsCache,
+                                  AuditService auditService,
+                                  @Value("${app.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.tenantRegistry = tenantRegistry;
+        this.rollupService = rollupService;
+        this.dashboardStatsCache = dashboardStatsCache;
+        this.auditService = auditService;
+        this.batchSize = batchSize;
+    }
+
+    public enum ImportFormat {
+        CSV,
+        JSON;  // a JSON array or newline-delimited records
+
+        public static ImportFormat fromContentType(String contentType) {
+            String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/json") || type.startsWith("application/x-ndjson")) {
+                return JSON;
+            }
+            throw new BadRequestException("Unsupported import content type: " + contentType);
+        }
+    }
+
+    public TimesheetImportResponse importTimesheets(InputStream input, String contentType) {
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+        UserPrincipal currentUser = TenantUtils.getCurrentUser();
+        Long tenantId = TenantUtils.getCurrentTenantId();
+
+        if (!tenantRegistry.exists(tenantId)) {
+            throw new ResourceNotFoundException("Tenant", "id", tenantId);
+        }
+
+        ImportRun run = new ImportRun(tenantId, currentUser);
+        try {
+            if (format == ImportFormat.CSV) {
+                readCsv(input, run);
+            } else {
+                readJson(input, run);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read import: " + e.getMessage());
+        }
+        run.flush();
+
+        if (run.imported > 0) {
+            dashboardStatsCache.invalidate(tenantId);
+            auditService.record("IMPORT", "Timesheet", null, "imported=" + run.imported + ", failed=" + run.failed);
+        }
+        log.info("Imported {} of {} timesheet rows for tenant {}", run.imported, run.total, tenantId);
+        return run.toResponse();
+    }
+
+    private void readCsv(InputStream input, ImportRun run) throws IOException {
+        // Record 1 is the header and empty lines are not counted, so a multi-line record is still one row
+        long recordNumber = 1;
+        try (MappingIterator<Map<String, String>> records = CSV_MAPPER.readerFor(Map.class)
+                .with(CSV_SCHEMA)
+                .readValues(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            while (records.hasNextValue()) {
+                Map<String, String> record = records.nextValue();
+                recordNumber++;
+
+                Map<String, String> fields = new HashMap<>();
+                record.forEach((name, value) -> {
+                    if (value != null && !value.isBlank()) {
+                        fields.put(normalizeField(name), value.trim());
+                    }
+                });
+                if (fields.isEmpty()) {
+                    continue;  // only separators, e.g. ",,,"
+                }
+                run.accept(recordNumber, fields);
+            }
+        } catch (JacksonException e) {
+            // e.g. an unterminated quote or more values than header columns
+            run.reject(recordNumber + 1, "Malformed CSV, import stopped: " + e.getOriginalMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readJson(InputStream input, ImportRun run) {
+        long position = 0;
+        try (MappingIterator<Map<String, Object>> records = objectMapper.readerFor(Map.class).readValues(input)) {
+            while (records.hasNextValue()) {
+                Map<String, Object> record = records.nextValue();
+                position++;
+                Map<String, String> fields = new HashMap<>();
+                record.forEach((name, value) -> {
+                    if (value != null) {
+                        fields.put(normalizeField(name), String.valueOf(value).trim());
+                    }
+                });
+                run.accept(position, fields);
+            }
+        } catch (JacksonException e) {
+            // Malformed JSON can't be resynchronised; keep what was read and report where it stopped
+            run.reject(position + 1, "Malformed JSON, import stopped: " + e.getOriginalMessage());
+        }
+    }
+
+    // Accepts "projectId", "project_id" and "ProjectId" alike; drops a byte order mark on the first header
+    private static String normalizeField(String name) {
+        return name.replace("\uFEFF", "").trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static class ImportRow {
+        long row;
+        Long userId;
+        Long projectId;
+        LocalDate date;
+        BigDecimal hours;
+        String description;
+        boolean billable;
+    }
+
+    // State for one import: the pending batch, ids already resolved for this tenant and the report
+    private class ImportRun {
+
+        private final Long tenantId;
+        private final Long currentUserId;
+        private final boolean canImportForOthers;
+
+        private final List<ImportRow> pending = new ArrayList<>();
+        private final Set<Long> knownProjectIds = new HashSet<>();
+        private final Set<Long> unknownProjectIds = new HashSet<>();
+        private final Set<Long> knownUserIds = new HashSet<>();
+        private final Set<Long> unknownUserIds = new HashSet<>();
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        private long total;
+        private long imported;
+        private long failed;
+
+        ImportRun(Long tenantId, UserPrincipal currentUser) {
+            this.tenantId = tenantId;
+            this.currentUserId = currentUser.getId();
+            this.canImportForOthers = User.Role.ADMIN.name().equals(currentUser.getRole())
+                    || User.Role.MANAGER.name().equals(currentUser.getRole());
+            this.knownUserIds.add(currentUserId);
+        }
+
+        void accept(long rowNumber, Map<String, String> fields) {
+            total++;
+            try {
+                pending.add(parse(rowNumber, fields));
+            } catch (BadRequestException e) {
+                reject(rowNumber, e.getMessage());
+                return;
+            }
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long rowNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(rowNumber, message));
+            }
+        }
+
+        private ImportRow parse(long rowNumber, Map<String, String> fields) {
+            ImportRow row = new ImportRow();
+            row.row = rowNumber;
+            row.projectId = parseId(fields.get("projectid"), "projectId");
+            row.date = parseDate(fields.get("date"));
+            row.hours = parseHours(fields.get("hours"));
+            row.description = blankToNull(fields.get("description"));
+            row.billable = parseBillable(fields.get("isbillable"));
+
+            String userId = blankToNull(fields.get("userid"));
+            row.userId = userId != null ? parseId(userId, "userId") : currentUserId;
+            if (!row.userId.equals(currentUserId) && !canImportForOthers) {
+                throw new BadRequestException("Only managers and admins can import timesheets for other users");
+            }
+            return row;
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            resolveIds(pending.stream().map(row -> row.projectId).collect(Collectors.toSet()),
+                    "SELECT id FROM projects WHERE tenant_id = :tenantId AND id IN (:ids)",
+                    knownProjectIds, unknownProjectIds);
+            resolveIds(pending.stream().map(row -> row.userId).collect(Collectors.toSet()),
+                    "SELECT id FROM users WHERE tenant_id = :tenantId AND id IN (:ids)",
+                    knownUserIds, unknownUserIds);
+
+            List<ImportRow> valid = new ArrayList<>(pending.size());
+            for (ImportRow row : pending) {
+                if (unknownProjectIds.contains(row.projectId)) {
+                    reject(row.row, "Project not found: " + row.projectId);
+                } else if (unknownUserIds.contains(row.userId)) {
+                    reject(row.row, "User not found: " + row.userId);
+                } else {
+                    valid.add(row);
+                }
+            }
+            pending.clear();
+
+            if (!valid.isEmpty()) {
+                write(valid);
+            }
+        }
+
+        // Looks up only ids not seen in earlier batches, so each project and user is resolved once per import
+        private void resolveIds(Set<Long> ids, String sql, Set<Long> known, Set<Long> unknown) {
+            ids.removeAll(known);
+            ids.removeAll(unknown);
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("tenantId", tenantId)
+                    .addValue("ids", ids);
+            List<Long> found = namedParameterJdbcTemplate.queryForList(sql, params, Long.class);
+
+            known.addAll(found);
+            ids.removeAll(found);
+            unknown.addAll(ids);
+        }
+
+        private void write(List<ImportRow> rows) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            String status = Timesheet.TimesheetStatus.PENDING.name();
+
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                        ps.setLong(1, tenantId);
+                        ps.setLong(2, row.userId);
+                        ps.setLong(3, row.projectId);
+                        ps.setDate(4, Date.valueOf(row.date));
+                        ps.setBigDecimal(5, row.hours);
+                        ps.setString(6, row.description);
+                        ps.setBoolean(7, row.billable);
+                        ps.setString(8, status);
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                    });
+
+                    rollupService.addAll(tenantId, Timesheet.TimesheetStatus.PENDING, rows.stream()
+                            .map(row -> new TimesheetRollupService.Entry(
+                                    row.userId, row.projectId, row.date, row.billable, row.hours))
+                            .collect(Collectors.toList()));
+                });
+                imported += rows.size();
+            } catch (DataAccessException e) {
+                log.warn("Timesheet import batch of {} rows failed for tenant {}", rows.size(), tenantId, e);
+                String message = "Batch rolled back: " + e.getMostSpecificCause().getMessage();
+                rows.forEach(row -> reject(row.row, message));
+            }
+        }
+
+        TimesheetImportResponse toResponse() {
+            return TimesheetImportResponse.builder()
+                    .totalRows(total)
+                    .importedRows(imported)
+                    .failedRows(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+
+    private static Long parseId(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new BadRequestException(field + " is required");
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new BadRequestException("date is required");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid date: " + value);
+        }
+    }
+
+    private static BigDecimal parseHours(String value) {
+        if (value == null || value.isBlank()) {
+            throw new BadRequestException("hours is required");
+        }
+        BigDecimal hours;
+        try {
+            hours = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid hours: " + value);
+        }
+        if (hours.signum() <= 0 || hours.compareTo(MAX_HOURS) > 0) {
+            throw new BadRequestException("Hours must be between 0 and 24");
+        }
+        return hours;
+    }
+
+    private static boolean parseBillable(String value) {
+        if (value == null || value.isBlank()) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("true") || value.equals("1")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false") || value.equals("0")) {
+            return false;
+        }
+        throw new BadRequestException("Invalid isBillable: " + value);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,148 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.model.Timesheet;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Maintains timesheet_daily_rollups, the per-day totals dashboard queries read instead of scanning
+// timesheets. Deltas are applied inside the caller's transaction so they commit or roll back with it.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimesheetRollupService {
+
+    // Row alias instead of VALUES(), which is deprecated since MySQL 8.0.20
+    private static final String UPSERT_SQL =
+            "INSERT INTO timesheet_daily_rollups " +
+            "(tenant_id, user_id, project_id, date, status, is_billable, hours, entry_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE hours = hours + new.hours, entry_count = entry_count + new.entry_count";
+
+    // A tenant with timesheets but no rollup rows has never been backfilled
+    private static final String NEEDS_BACKFILL_SQL =
+            "SELECT CASE WHEN EXISTS (SELECT 1 FROM timesheets WHERE tenant_id = ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM timesheet_daily_rollups WHERE tenant_id = ?) THEN 1 ELSE 0 END";
+
+    private static final String DELETE_TENANT_SQL =
+            "DELETE FROM timesheet_daily_rollups WHERE tenant_id = ?";
+
+    private static final String REBUILD_TENANT_SQL =
+            "INSERT INTO timesheet_daily_rollups " +
+            "(tenant_id, user_id, project_id, date, status, is_billable, hours, entry_count) " +
+            "SELECT tenant_id, user_id, project_id, date, status, COALESCE(is_billable, FALSE), SUM(hours), COUNT(*) " +
+            "FROM timesheets WHERE tenant_id = ? " +
+            "GROUP BY tenant_id, user_id, project_id, date, status, COALESCE(is_billable, FALSE)";
+
+    // Applies the current state of the given timesheet rows, grouped per rollup key, scaled by :sign
+    private static final String APPLY_ROWS_SQL =
+            "INSERT INTO timesheet_daily_rollups " +
+            "(tenant_id, user_id, project_id, date, status, is_billable, hours, entry_count) " +
+            "SELECT * FROM (" +
+            "SELECT tenant_id, user_id, project_id, date, status, COALESCE(is_billable, FALSE) AS billable, " +
+            "SUM(hours) * :sign AS delta_hours, COUNT(*) * :sign AS delta_count " +
+            "FROM timesheets WHERE tenant_id = :tenantId AND id IN (:ids) " +
+            "GROUP BY tenant_id, user_id, project_id, date, status, COALESCE(is_billable, FALSE)) AS delta " +
+            "ON DUPLICATE KEY UPDATE hours = timesheet_daily_rollups.hours + delta.delta_hours, " +
+            "entry_count = timesheet_daily_rollups.entry_count + delta.delta_count";
+
+    // Plain JDBC keeps these writes out of Hibernate, so they don't force a flush or invalidate its caches
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void add(Timesheet timesheet) {
+        applyDelta(timesheet, timesheet.getHours(), 1);
+    }
+
+    public void remove(Timesheet timesheet) {
+        applyDelta(timesheet, timesheet.getHours().negate(), -1);
+    }
+
+    // Folds many new entries into per-day deltas and applies them as one JDBC batch
+    public void addAll(Long tenantId, Timesheet.TimesheetStatus status, Collection<Entry> entries) {
+        Map<List<Object>, BigDecimal> hoursByKey = new LinkedHashMap<>();
+        Map<List<Object>, Integer> countByKey = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            List<Object> key = List.of(entry.getUserId(), entry.getProjectId(), entry.getDate(), entry.isBillable());
+            hoursByKey.merge(key, entry.getHours(), BigDecimal::add);
+            countByKey.merge(key, 1, Integer::sum);
+        }
+
+        List<Object[]> batch = new ArrayList<>(hoursByKey.size());
+        hoursByKey.forEach((key, hours) -> batch.add(new Object[]{
+                tenantId, key.get(0), key.get(1), Date.valueOf((LocalDate) key.get(2)),
+                status.name(), key.get(3), hours, countByKey.get(key)}));
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        }
+    }
+
+    // Set-based counterparts of add/remove for rows changed by a bulk UPDATE: call removeRows before
+    // the update and addRows after it, both inside the updating transaction
+    public void removeRows(Long tenantId, Collection<Long> timesheetIds) {
+        applyRows(tenantId, timesheetIds, -1);
+    }
+
+    public void addRows(Long tenantId, Collection<Long> timesheetIds) {
+        applyRows(tenantId, timesheetIds, 1);
+    }
+
+    public boolean needsBackfill(Long tenantId) {
+        Integer missing = jdbcTemplate.queryForObject(NEEDS_BACKFILL_SQL, Integer.class, tenantId, tenantId);
+        return missing != null && missing == 1;
+    }
+
+    @Transactional
+    public void rebuildTenant(Long tenantId) {
+        jdbcTemplate.update(DELETE_TENANT_SQL, tenantId);
+        int rows = jdbcTemplate.update(REBUILD_TENANT_SQL, tenantId);
+        log.info("Rebuilt {} rollup rows for tenant {}", rows, tenantId);
+    }
+
+    private void applyRows(Long tenantId, Collection<Long> timesheetIds, int sign) {
+        if (timesheetIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("ids", timesheetIds)
+                .addValue("sign", sign);
+        namedParameterJdbcTemplate.update(APPLY_ROWS_SQL, params);
+    }
+
+    @Value
+    public static class Entry {
+        Long userId;
+        Long projectId;
+        LocalDate date;
+        boolean billable;
+        BigDecimal hours;
+    }
+
+    private void applyDelta(Timesheet timesheet, BigDecimal hours, int entryCount) {
+        jdbcTemplate.update(UPSERT_SQL,
+                timesheet.getTenant().getId(),
+                timesheet.getUser().getId(),
+                timesheet.getProject().getId(),
+                Date.valueOf(timesheet.getDate()),
+                timesheet.getStatus().name(),
+                Boolean.TRUE.equals(timesheet.getIsBillable()),
+                hours,
+                entryCount);
+    }
+}
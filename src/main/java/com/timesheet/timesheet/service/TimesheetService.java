@@ -1,10 +1,16 @@
 package com.timesheet.timesheet.service;
 
+import com.timesheet.timesheet.config.TenantRegistry;
+import com.timesheet.timesheet.dto.projection.TimesheetStatusRow;
+import com.timesheet.timesheet.dto.request.BulkTimesheetApprovalRequest;
 import com.timesheet.timesheet.dto.request.TimesheetApprovalRequest;
 import com.timesheet.timesheet.dto.request.TimesheetRequest;
+import com.timesheet.timesheet.dto.response.BulkApprovalResponse;
+import com.timesheet.timesheet.dto.response.CursorPageResponse;
 import com.timesheet.timesheet.dto.response.TimesheetResponse;
 import com.timesheet.timesheet.exception.BadRequestException;
 import com.timesheet.timesheet.exception.ResourceNotFoundException;
+import com.timesheet.timesheet.mapper.TimesheetMapper;
 import com.timesheet.timesheet.model.Project;
 import com.timesheet.timesheet.model.Tenant;
 import com.timesheet.timesheet.model.Timesheet;
@@ -13,50 +19,107 @@ import com.timesheet.timesheet.repository.ProjectRepository;
 import com.timesheet.timesheet.repository.TenantRepository;
 import com.timesheet.timesheet.repository.TimesheetRepository;
 import com.timesheet.timesheet.repository.UserRepository;
+import com.timesheet.timesheet.security.UserPrincipal;
 import com.timesheet.timesheet.util.TenantUtils;
+import com.timesheet.timesheet.util.TimesheetCursor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TimesheetService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BULK_APPROVAL_SIZE = 1000;
+
     private final TimesheetRepository timesheetRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final TenantRepository tenantRepository;
-    private final ModelMapper modelMapper;
+    private final TenantRegistry tenantRegistry;
+    private final TimesheetMapper timesheetMapper;
+    private final TimesheetRollupService rollupService;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final AuditService auditService;
 
+    @Transactional(readOnly = true)
     public Page<TimesheetResponse> getAllTimesheets(Pageable pageable) {
         Long tenantId = TenantUtils.getCurrentTenantId();
-        Page<Timesheet> timesheets = timesheetRepository.findByTenantId(tenantId, pageable);
+        Page<Timesheet> timesheets = timesheetRepository.findListingByTenantId(tenantId, pageable);
         return timesheets.map(this::convertToTimesheetResponse);
     }
 
+    @Transactional(readOnly = true)
     public Page<TimesheetResponse> getMyTimesheets(Pageable pageable) {
         Long tenantId = TenantUtils.getCurrentTenantId();
         Long userId = TenantUtils.getCurrentUserId();
 
-        Page<Timesheet> timesheets = timesheetRepository.findByUserIdAndTenantId(
+        Page<Timesheet> timesheets = timesheetRepository.findListingByUserIdAndTenantId(
                 userId, tenantId, pageable);
         return timesheets.map(this::convertToTimesheetResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TimesheetResponse> getAllTimesheets(String cursor, int size, boolean includeTotal) {
+        validateCursorPageSize(size);
+        Long tenantId = TenantUtils.getCurrentTenantId();
+
+        // Fetch one extra row to know whether another page exists without counting
+        Limit limit = Limit.of(size + 1);
+        List<Timesheet> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = timesheetRepository.findListingByTenantId(tenantId, limit);
+        } else {
+            TimesheetCursor position = TimesheetCursor.decode(cursor);
+            rows = timesheetRepository.findListingByTenantIdBefore(
+                    tenantId, position.getDate(), position.getId(), limit);
+        }
+
+        Long total = includeTotal ? timesheetRepository.countByTenantId(tenantId) : null;
+        return toCursorPage(rows, size, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TimesheetResponse> getMyTimesheets(String cursor, int size, boolean includeTotal) {
+        validateCursorPageSize(size);
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        Long userId = TenantUtils.getCurrentUserId();
+
+        Limit limit = Limit.of(size + 1);
+        List<Timesheet> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = timesheetRepository.findListingByUserIdAndTenantId(userId, tenantId, limit);
+        } else {
+            TimesheetCursor position = TimesheetCursor.decode(cursor);
+            rows = timesheetRepository.findListingByUserIdAndTenantIdBefore(
+                    userId, tenantId, position.getDate(), position.getId(), limit);
+        }
+
+        Long total = includeTotal ? timesheetRepository.countByUserIdAndTenantId(userId, tenantId) : null;
+        return toCursorPage(rows, size, total);
+    }
+
+    @Transactional(readOnly = true)
     public Page<TimesheetResponse> getPendingTimesheets(Pageable pageable) {
         Long tenantId = TenantUtils.getCurrentTenantId();
-        Page<Timesheet> timesheets = timesheetRepository.findByTenantIdAndStatus(
+        Page<Timesheet> timesheets = timesheetRepository.findListingByTenantIdAndStatus(
                 tenantId, Timesheet.TimesheetStatus.PENDING, pageable);
         return timesheets.map(this::convertToTimesheetResponse);
     }
 
+    @Transactional(readOnly = true)
     public TimesheetResponse getTimesheetById(Long id) {
         Long tenantId = TenantUtils.getCurrentTenantId();
         Timesheet timesheet = timesheetRepository.findByIdAndTenantId(id, tenantId)
@@ -70,14 +133,15 @@ public class TimesheetService {
         Long tenantId = TenantUtils.getCurrentTenantId();
         Long userId = TenantUtils.getCurrentUserId();
 
-        Tenant tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Tenant", "id", tenantId));
+        if (!tenantRegistry.exists(tenantId)) {
+            throw new ResourceNotFoundException("Tenant", "id", tenantId);
+        }
+        Tenant tenant = tenantRepository.getReferenceById(tenantId);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        Project project = projectRepository.findByIdAndTenantId(request.getProjectId(), tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", request.getProjectId()));
+        Project project = findProjectInTenant(request.getProjectId(), tenantId);
 
         // Validate hours
         if (request.getHours().doubleValue() <= 0 || request.getHours().doubleValue() > 24) {
@@ -96,6 +160,9 @@ public class TimesheetService {
                 .build();
 
         timesheet = timesheetRepository.save(timesheet);
+        rollupService.add(timesheet);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record("CREATE", "Timesheet", timesheet.getId(), null);
         return convertToTimesheetResponse(timesheet);
     }
 
@@ -117,13 +184,14 @@ public class TimesheetService {
             throw new BadRequestException("Cannot update timesheet that has been approved or rejected");
         }
 
-        Project project = projectRepository.findByIdAndTenantId(request.getProjectId(), tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", request.getProjectId()));
+        Project project = findProjectInTenant(request.getProjectId(), tenantId);
 
         if (request.getHours().doubleValue() <= 0 || request.getHours().doubleValue() > 24) {
             throw new BadRequestException("Hours must be between 0 and 24");
         }
 
+        rollupService.remove(timesheet);
+
         timesheet.setProject(project);
         timesheet.setDate(request.getDate());
         timesheet.setHours(request.getHours());
@@ -131,6 +199,9 @@ public class TimesheetService {
         timesheet.setIsBillable(request.getIsBillable());
 
         timesheet = timesheetRepository.save(timesheet);
+        rollupService.add(timesheet);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record("UPDATE", "Timesheet", timesheet.getId(), null);
         return convertToTimesheetResponse(timesheet);
     }
 
@@ -152,7 +223,10 @@ public class TimesheetService {
             throw new BadRequestException("Cannot delete timesheet that has been approved or rejected");
         }
 
+        rollupService.remove(timesheet);
         timesheetRepository.delete(timesheet);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record("DELETE", "Timesheet", id, null);
     }
 
     @Transactional
@@ -174,6 +248,7 @@ public class TimesheetService {
 
         Timesheet.TimesheetStatus newStatus = Timesheet.TimesheetStatus.valueOf(request.getStatus());
 
+        rollupService.remove(timesheet);
         timesheet.setStatus(newStatus);
         timesheet.setApprovedBy(approver);
         timesheet.setApprovedAt(LocalDateTime.now());
@@ -183,12 +258,131 @@ public class TimesheetService {
         }
 
         timesheet = timesheetRepository.save(timesheet);
+        rollupService.add(timesheet);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record(newStatus.name(), "Timesheet", timesheet.getId(), null);
         return convertToTimesheetResponse(timesheet);
     }
 
+    @Transactional
+    public BulkApprovalResponse bulkApproveOrReject(BulkTimesheetApprovalRequest request) {
+        Long tenantId = TenantUtils.getCurrentTenantId();
+        UserPrincipal approver = TenantUtils.getCurrentUser();
+
+        // Role comes from the authenticated principal, checked once for the whole batch
+        if (!User.Role.MANAGER.name().equals(approver.getRole()) &&
+                !User.Role.ADMIN.name().equals(approver.getRole())) {
+            throw new BadRequestException("Only managers and admins can approve timesheets");
+        }
+
+        Timesheet.TimesheetStatus newStatus;
+        try {
+            newStatus = Timesheet.TimesheetStatus.valueOf(request.getStatus());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status: " + request.getStatus());
+        }
+        if (newStatus == Timesheet.TimesheetStatus.PENDING) {
+            throw new BadRequestException("Status must be APPROVED or REJECTED");
+        }
+
+        List<BulkApprovalResponse.Outcome> outcomes = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        boolean hasMore = false;
+
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            if (ids.size() > MAX_BULK_APPROVAL_SIZE) {
+                throw new BadRequestException("At most " + MAX_BULK_APPROVAL_SIZE + " timesheets can be updated at once");
+            }
+
+            Map<Long, String> statuses = new HashMap<>();
+            for (TimesheetStatusRow row : timesheetRepository.lockStatusesByIdsAndTenantId(ids, tenantId)) {
+                statuses.put(row.getId(), row.getStatus());
+            }
+
+            for (Long id : ids) {
+                String status = statuses.get(id);
+                if (status == null) {
+                    outcomes.add(new BulkApprovalResponse.Outcome(id, "NOT_FOUND"));
+                } else if (!Timesheet.TimesheetStatus.PENDING.name().equals(status)) {
+                    outcomes.add(new BulkApprovalResponse.Outcome(id, "NOT_PENDING"));
+                } else {
+                    targetIds.add(id);
+                }
+            }
+        } else {
+            if (request.getUserId() == null && request.getProjectId() == null &&
+                    request.getStartDate() == null && request.getEndDate() == null) {
+                throw new BadRequestException("Provide timesheet ids or at least one filter");
+            }
+
+            targetIds = timesheetRepository.lockPendingIds(tenantId, request.getUserId(), request.getProjectId(),
+                    request.getStartDate(), request.getEndDate(), MAX_BULK_APPROVAL_SIZE);
+            hasMore = targetIds.size() == MAX_BULK_APPROVAL_SIZE;
+        }
+
+        int updated = 0;
+        if (!targetIds.isEmpty()) {
+            rollupService.removeRows(tenantId, targetIds);
+            updated = timesheetRepository.updatePendingStatus(
+                    targetIds,
+                    tenantId,
+                    newStatus,
+                    userRepository.getReferenceById(approver.getId()),
+                    newStatus == Timesheet.TimesheetStatus.REJECTED ? request.getRejectionReason() : null,
+                    LocalDateTime.now());
+            rollupService.addRows(tenantId, targetIds);
+            dashboardStatsCache.invalidate(tenantId);
+
+            for (Long id : targetIds) {
+                outcomes.add(new BulkApprovalResponse.Outcome(id, "UPDATED"));
+                auditService.record(newStatus.name(), "Timesheet", id, "bulk");
+            }
+        }
+
+        return BulkApprovalResponse.builder()
+                .status(newStatus.name())
+                .updatedCount(updated)
+                .hasMore(hasMore)
+                .outcomes(outcomes)
+                .build();
+    }
+
+    // Loaded by id so it can be served from the second-level cache, which query results bypass
+    private Project findProjectInTenant(Long projectId, Long tenantId) {
+        return projectRepository.findById(projectId)
+                .filter(project -> project.getTenant().getId().equals(tenantId))
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+    }
+
+    private void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+    }
+
+    private CursorPageResponse<TimesheetResponse> toCursorPage(List<Timesheet> rows, int size, Long total) {
+        boolean hasMore = rows.size() > size;
+        List<Timesheet> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Timesheet lastRow = page.get(page.size() - 1);
+            nextCursor = new TimesheetCursor(lastRow.getDate(), lastRow.getId()).encode();
+        }
+
+        return CursorPageResponse.<TimesheetResponse>builder()
+                .content(page.stream()
+                        .map(this::convertToTimesheetResponse)
+                        .collect(Collectors.toList()))
+                .pageSize(size)
+                .nextCursor(nextCursor)
+                .last(!hasMore)
+                .totalElements(total)
+                .build();
+    }
+
     private TimesheetResponse convertToTimesheetResponse(Timesheet timesheet) {
-        TimesheetResponse response = modelMapper.map(timesheet, TimesheetResponse.class);
-        // The nested objects will be mapped automatically by ModelMapper
-        return response;
+        return timesheetMapper.toResponse(timesheet);
     }
 }
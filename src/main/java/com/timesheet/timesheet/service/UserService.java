@@ -1,22 +1,25 @@
 package com.timesheet.timesheet.service;
 
+import com.timesheet.timesheet.config.TenantInfo;
+import com.timesheet.timesheet.config.TenantRegistry;
 import com.timesheet.timesheet.dto.request.UserRequest;
 import com.timesheet.timesheet.dto.response.UserResponse;
 import com.timesheet.timesheet.exception.BadRequestException;
 import com.timesheet.timesheet.exception.ResourceNotFoundException;
+import com.timesheet.timesheet.mapper.UserMapper;
 import com.timesheet.timesheet.model.Tenant;
 import com.timesheet.timesheet.model.User;
 import com.timesheet.timesheet.repository.TenantRepository;
 import com.timesheet.timesheet.repository.UserRepository;
+import com.timesheet.timesheet.security.PrincipalCache;
+import com.timesheet.timesheet.security.TokenRevocationRegistry;
 import com.timesheet.timesheet.util.TenantUtils;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,17 +27,21 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
+    private final TenantRegistry tenantRegistry;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final AuditService auditService;
 
+    @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
         Long tenantId = TenantUtils.getCurrentTenantId();
-        List<User> users = userRepository.findByTenantId(tenantId);
-        return users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
+        return userRepository.findUserResponsesByTenantId(tenantId);
     }
 
+    @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
         Long tenantId = TenantUtils.getCurrentTenantId();
         User user = userRepository.findById(id)
@@ -56,15 +63,17 @@ public class UserService {
             throw new BadRequestException("Email address already in use");
         }
 
-        Tenant tenant = tenantRepository.findById(tenantId)
+        TenantInfo tenantInfo = tenantRegistry.find(tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tenant", "id", tenantId));
 
         // Check user limit
         Long userCount = userRepository.countByTenantId(tenantId);
-        if (userCount >= tenant.getMaxUsers()) {
+        if (userCount >= tenantInfo.getMaxUsers()) {
             throw new BadRequestException("User limit reached for your plan");
         }
 
+        Tenant tenant = tenantRepository.getReferenceById(tenantId);
+
         User user = User.builder()
                 .tenant(tenant)
                 .email(request.getEmail())
@@ -78,6 +87,8 @@ public class UserService {
                 .build();
 
         user = userRepository.save(user);
+        dashboardStatsCache.invalidate(tenantId);
+        auditService.record("CREATE", "User", user.getId(), null);
         return convertToUserResponse(user);
     }
 
@@ -111,6 +122,8 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        evictAuthState(id);
+        auditService.record("UPDATE", "User", id, null);
         return convertToUserResponse(user);
     }
 
@@ -128,6 +141,8 @@ public class UserService {
         // Soft delete - just deactivate
         user.setIsActive(false);
         userRepository.save(user);
+        evictAuthState(id);
+        auditService.record("DEACTIVATE", "User", id, null);
     }
 
     @Transactional
@@ -143,21 +158,23 @@ public class UserService {
 
         user.setIsActive(!user.getIsActive());
         user = userRepository.save(user);
+        evictAuthState(id);
+        auditService.record(user.getIsActive() ? "ACTIVATE" : "DEACTIVATE", "User", id, null);
         return convertToUserResponse(user);
     }
 
+    @Transactional(readOnly = true)
     public List<UserResponse> getActiveUsers() {
         Long tenantId = TenantUtils.getCurrentTenantId();
-        List<User> users = userRepository.findActiveUsersByTenantId(tenantId);
-        return users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
+        return userRepository.findActiveUserResponsesByTenantId(tenantId);
+    }
+
+    private void evictAuthState(Long userId) {
+        principalCache.invalidate(userId);
+        tokenRevocationRegistry.revoke(userId);
     }
 
     private UserResponse convertToUserResponse(User user) {
-        UserResponse response = modelMapper.map(user, UserResponse.class);
-        response.setTenantId(user.getTenant().getId());
-        response.setTenantName(user.getTenant().getName());
-        return response;
+        return userMapper.toResponse(user);
     }
 }
\ No newline at end of file
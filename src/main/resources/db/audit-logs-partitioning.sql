@@ -0,0 +1,13 @@
+-- Converts audit_logs to monthly RANGE partitions on created_at (MySQL 8).
+-- Every unique key of a partitioned table must include the partitioning column, so the primary key
+-- becomes (id, created_at); id stays AUTO_INCREMENT and unique in practice.
+-- Run once during a maintenance window, then enable app.audit.partitioning.enabled so
+-- AuditPartitionManager keeps future partitions ahead and drops expired ones.
+-- Adjust the first partition to the oldest month present in the table.
+
+ALTER TABLE audit_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE audit_logs PARTITION BY RANGE (TO_DAYS(created_at)) (
+    PARTITION p202601 VALUES LESS THAN (TO_DAYS('2026-02-01')),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
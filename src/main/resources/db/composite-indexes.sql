@@ -0,0 +1,13 @@
+-- Composite indexes for the tenant-scoped listing, dashboard and cost queries.
+-- Hibernate creates these on startup with ddl-auto=update; run this script on schemas managed with validate.
+
+CREATE INDEX idx_tenant_date_id ON timesheets (tenant_id, date, id);
+CREATE INDEX idx_tenant_user_date_id ON timesheets (tenant_id, user_id, date, id);
+CREATE INDEX idx_tenant_status_date ON timesheets (tenant_id, status, date);
+CREATE INDEX idx_project_status_cost ON timesheets (project_id, status, tenant_id, is_billable, user_id, hours);
+
+CREATE INDEX idx_project_tenant_status ON projects (tenant_id, status);
+
+CREATE INDEX idx_user_tenant_active ON users (tenant_id, is_active);
+
+CREATE INDEX idx_member_user_project ON project_members (user_id, project_id);
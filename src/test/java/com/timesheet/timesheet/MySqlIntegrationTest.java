@@ -0,0 +1,103 @@
+package com.timesheet.timesheet;
+
+import com.timesheet.timesheet.config.TenantContext;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.User;
+import com.timesheet.timesheet.repository.ProjectRepository;
+import com.timesheet.timesheet.repository.TenantRepository;
+import com.timesheet.timesheet.repository.UserRepository;
+import com.timesheet.timesheet.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Base for tests of the MySQL-specific SQL (upserts, FOR UPDATE, batched JDBC writes) that H2 cannot run.
+// The container is started with the shared application context; each test works in its own tenant.
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlIntegrationTest {
+
+	@ServiceConnection
+	static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	@Autowired
+	protected TenantRepository tenantRepository;
+
+	@Autowired
+	protected UserRepository userRepository;
+
+	@Autowired
+	protected ProjectRepository projectRepository;
+
+	@Autowired
+	protected JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void clearRequestContext() {
+		SecurityContextHolder.clearContext();
+		TenantContext.clear();
+	}
+
+	protected Tenant createTenant() {
+		int n = SEQUENCE.incrementAndGet();
+		return tenantRepository.save(Tenant.builder()
+				.name("Tenant " + n)
+				.subdomain("tenant-" + n)
+				.isActive(true)
+				.subscriptionPlan("FREE")
+				.maxUsers(50)
+				.build());
+	}
+
+	protected User createUser(Tenant tenant, User.Role role) {
+		int n = SEQUENCE.incrementAndGet();
+		return userRepository.save(User.builder()
+				.tenant(tenant)
+				.email("user" + n + "@example.test")
+				.password("secret")
+				.firstName("First")
+				.lastName("Last")
+				.role(role)
+				.hourlyRate(new BigDecimal("50.00"))
+				.isActive(true)
+				.build());
+	}
+
+	protected Project createProject(Tenant tenant, User createdBy) {
+		return projectRepository.save(Project.builder()
+				.tenant(tenant)
+				.name("Project " + SEQUENCE.incrementAndGet())
+				.status(Project.ProjectStatus.ACTIVE)
+				.createdBy(createdBy)
+				.build());
+	}
+
+	protected Long insertTimesheet(User user, Project project, LocalDate date, String hours, String status) {
+		jdbcTemplate.update("INSERT INTO timesheets " +
+						"(tenant_id, user_id, project_id, date, hours, is_billable, status, created_at, updated_at) " +
+						"VALUES (?, ?, ?, ?, ?, TRUE, ?, NOW(), NOW())",
+				user.getTenant().getId(), user.getId(), project.getId(), date, new BigDecimal(hours), status);
+		return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+	}
+
+	// Sets up what TenantFilter and JwtAuthenticationFilter would for a request by this user
+	protected void authenticate(User user) {
+		UserPrincipal principal = UserPrincipal.create(user);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+		TenantContext.setTenantId(user.getTenant().getId());
+	}
+}
@@ -0,0 +1,137 @@
+package com.timesheet.timesheet.benchmark;
+
+import com.timesheet.timesheet.config.TenantContext;
+import com.timesheet.timesheet.model.AuditLog;
+import com.timesheet.timesheet.repository.AuditLogRepository;
+import com.timesheet.timesheet.security.UserPrincipal;
+import com.timesheet.timesheet.service.AuditLogWriter;
+import com.timesheet.timesheet.service.AuditService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.Mockito.mock;
+
+// Request-thread cost of auditing with 8 threads publishing at once: AuditService.record as services
+// call it, and AuditLogWriter.publish alone. The writer flushes into a JdbcTemplate that only waits
+// writeLatencyMicros per batch, standing in for the database. With queueCapacity=1000 and a slow
+// batch the queue stays full and most calls take the drop path; the trial summary prints the split.
+//   ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="AuditWriterBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class AuditWriterBenchmark {
+
+	@Param({"100000", "1000"})
+	private int queueCapacity;
+
+	@Param({"0", "2000"})
+	private long writeLatencyMicros;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AuditLogWriter writer;
+	private AuditService auditService;
+	private AuditLog event;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		writer = new AuditLogWriter(new SlowJdbcTemplate(writeLatencyMicros), meterRegistry,
+				queueCapacity, 500, 1000, 10_000);
+		writer.start();
+		auditService = new AuditService(writer, mock(AuditLogRepository.class));
+
+		event = AuditLog.builder()
+				.tenantId(7L)
+				.userId(42L)
+				.action("UPDATE")
+				.entityType("Timesheet")
+				.entityId(1L)
+				.details("hours=8.00")
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		writer.stop();
+		System.out.printf("%naudit.events published=%.0f dropped=%.0f written=%.0f%n",
+				count("published"), count("dropped"), count("written"));
+	}
+
+	// What TenantFilter and JwtAuthenticationFilter leave on each request thread
+	@State(Scope.Thread)
+	public static class RequestContext {
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			UserPrincipal principal = UserPrincipal.create(42L, "user@example.test", 7L, "EMPLOYEE");
+			SecurityContextHolder.getContext().setAuthentication(
+					new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+			TenantContext.setTenantId(7L);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			SecurityContextHolder.clearContext();
+			TenantContext.clear();
+		}
+	}
+
+	@Benchmark
+	public void record(RequestContext context) {
+		auditService.record("UPDATE", "Timesheet", 1L, "hours=8.00");
+	}
+
+	@Benchmark
+	public void publish() {
+		writer.publish(event);
+	}
+
+	private double count(String outcome) {
+		return meterRegistry.counter("audit.events", "outcome", outcome).count();
+	}
+
+	private static class SlowJdbcTemplate extends JdbcTemplate {
+
+		private final long latencyNanos;
+
+		SlowJdbcTemplate(long latencyMicros) {
+			this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		}
+
+		@Override
+		public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+									   ParameterizedPreparedStatementSetter<T> pss) {
+			if (latencyNanos > 0) {
+				LockSupport.parkNanos(latencyNanos);
+			}
+			return new int[][]{new int[batchArgs.size()]};
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.timesheet.timesheet.benchmark;
+
+import com.timesheet.timesheet.security.JwtTokenProvider;
+import com.timesheet.timesheet.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Tokens verified per second by JwtAuthenticationFilter: the original path (validateToken, then
+// getUserIdFromToken, each deriving the key and building a parser) against one verification with the
+// prebuilt parser. Run with: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="JwtValidationBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtValidationBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs512-signatures-0123456789";
+
+	private JwtTokenProvider tokenProvider;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		tokenProvider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+		ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", TimeUnit.DAYS.toMillis(1));
+		tokenProvider.init();
+
+		UserPrincipal principal = UserPrincipal.create(42L, "user@example.test", 7L, "EMPLOYEE");
+		token = tokenProvider.generateToken(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	@Benchmark
+	public Long doubleParse() {
+		if (!validateTokenBefore(token)) {
+			return null;
+		}
+		return getUserIdFromTokenBefore(token);
+	}
+
+	@Benchmark
+	public Long singleParse() {
+		return tokenProvider.validateAndGetClaims(token)
+				.map(Claims::getSubject)
+				.map(Long::parseLong)
+				.orElse(null);
+	}
+
+	// JwtTokenProvider.validateToken before the parser was prebuilt
+	private static boolean validateTokenBefore(String token) {
+		try {
+			Jwts.parserBuilder()
+					.setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+					.build()
+					.parseClaimsJws(token);
+			return true;
+		} catch (JwtException | IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	// JwtTokenProvider.getUserIdFromToken before the parser was prebuilt
+	private static Long getUserIdFromTokenBefore(String token) {
+		Claims claims = Jwts.parserBuilder()
+				.setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+				.build()
+				.parseClaimsJws(token)
+				.getBody();
+		return Long.parseLong(claims.getSubject());
+	}
+}
@@ -0,0 +1,158 @@
+package com.timesheet.timesheet.repository;
+
+import com.timesheet.timesheet.exception.AppConfig;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.Timesheet;
+import com.timesheet.timesheet.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import(AppConfig.class)
+class TimesheetRepositoryTests {
+
+	private static final int ROWS = 12;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TimesheetRepository timesheetRepository;
+
+	private Tenant tenant;
+
+	@BeforeEach
+	void setUp() {
+		tenant = Tenant.builder().name("Acme").subdomain("acme").isActive(true).maxUsers(50).build();
+		entityManager.persist(tenant);
+
+		User manager = persistUser("manager@acme.test", User.Role.MANAGER);
+
+		for (int i = 0; i < ROWS; i++) {
+			User user = persistUser("user" + i + "@acme.test", User.Role.EMPLOYEE);
+
+			Project project = Project.builder()
+					.tenant(tenant)
+					.name("Project " + i)
+					.status(Project.ProjectStatus.ACTIVE)
+					.createdBy(manager)
+					.build();
+			entityManager.persist(project);
+
+			boolean approved = i % 2 == 0;
+			entityManager.persist(Timesheet.builder()
+					.tenant(tenant)
+					.user(user)
+					.project(project)
+					.date(LocalDate.now().minusDays(i))
+					.hours(new BigDecimal("8.00"))
+					.isBillable(true)
+					.status(approved ? Timesheet.TimesheetStatus.APPROVED : Timesheet.TimesheetStatus.PENDING)
+					.approvedBy(approved ? manager : null)
+					.approvedAt(approved ? LocalDateTime.now() : null)
+					.build());
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void tenantListingUsesConstantNumberOfStatements() {
+		Statistics statistics = statistics();
+
+		Page<Timesheet> page = timesheetRepository.findListingByTenantId(
+				tenant.getId(), PageRequest.of(0, 10, Sort.by("date").descending()));
+		page.getContent().forEach(this::readMappedAssociations);
+
+		assertThat(page.getContent()).hasSize(10);
+		assertThat(page.getTotalElements()).isEqualTo(ROWS);
+		// One page query with its associations plus one count query
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void pendingListingUsesConstantNumberOfStatements() {
+		Statistics statistics = statistics();
+
+		Page<Timesheet> page = timesheetRepository.findListingByTenantIdAndStatus(
+				tenant.getId(), Timesheet.TimesheetStatus.PENDING, PageRequest.of(0, 4, Sort.by("date").descending()));
+		page.getContent().forEach(this::readMappedAssociations);
+
+		assertThat(page.getContent()).hasSize(4);
+		assertThat(page.getTotalElements()).isEqualTo(ROWS / 2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void keysetListingWalksEveryRowOnceInOrder() {
+		List<Timesheet> seen = new ArrayList<>();
+		List<Timesheet> page = timesheetRepository.findListingByTenantId(tenant.getId(), Limit.of(5));
+		while (!page.isEmpty()) {
+			seen.addAll(page);
+			Timesheet last = page.get(page.size() - 1);
+			page = timesheetRepository.findListingByTenantIdBefore(
+					tenant.getId(), last.getDate(), last.getId(), Limit.of(5));
+		}
+
+		assertThat(seen).hasSize(ROWS);
+		assertThat(seen).extracting(Timesheet::getId).doesNotHaveDuplicates();
+		assertThat(seen).extracting(Timesheet::getDate)
+				.isSortedAccordingTo((a, b) -> b.compareTo(a));
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	// Touches everything TimesheetMapper reads, which used to trigger one lazy load per association per row
+	private void readMappedAssociations(Timesheet timesheet) {
+		timesheet.getUser().getFirstName();
+		timesheet.getProject().getName();
+		if (timesheet.getApprovedBy() != null) {
+			timesheet.getApprovedBy().getFirstName();
+		}
+	}
+
+	private User persistUser(String email, User.Role role) {
+		User user = User.builder()
+				.tenant(tenant)
+				.email(email)
+				.password("secret")
+				.firstName("First")
+				.lastName("Last")
+				.role(role)
+				.isActive(true)
+				.build();
+		entityManager.persist(user);
+		return user;
+	}
+}
@@ -0,0 +1,80 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.MySqlIntegrationTest;
+import com.timesheet.timesheet.model.AuditLog;
+import com.timesheet.timesheet.model.Tenant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogWriterTests extends MySqlIntegrationTest {
+
+	private static final int BATCH_SIZE = 100;
+	private static final int EVENTS = 250;
+
+	private Tenant tenant;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		tenant = createTenant();
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void stopFlushesEventsStillQueued() {
+		// With an hour between timed flushes, the last partial batch is only written by the shutdown drain
+		AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 1000, BATCH_SIZE, 3_600_000, 10_000);
+		writer.start();
+
+		for (int i = 0; i < EVENTS; i++) {
+			writer.publish(event(i));
+		}
+		assertThat(auditRows()).isLessThanOrEqualTo(EVENTS - EVENTS % BATCH_SIZE);
+
+		writer.stop();
+
+		assertThat(auditRows()).isEqualTo(EVENTS);
+		assertThat(count("written")).isEqualTo(EVENTS);
+		assertThat(meterRegistry.get("audit.queue.size").gauge().value()).isZero();
+	}
+
+	@Test
+	void eventsPublishedWhileNotRunningAreDroppedAndCounted() {
+		AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 1000, BATCH_SIZE, 3_600_000, 10_000);
+		writer.publish(event(0));
+
+		writer.start();
+		writer.publish(event(1));
+		writer.stop();
+		writer.publish(event(2));
+
+		assertThat(count("published")).isEqualTo(1);
+		assertThat(count("dropped")).isEqualTo(2);
+		assertThat(auditRows()).isEqualTo(1);
+	}
+
+	private AuditLog event(int n) {
+		return AuditLog.builder()
+				.tenantId(tenant.getId())
+				.action("UPDATE")
+				.entityType("Timesheet")
+				.entityId((long) n)
+				.details("event " + n)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	private long auditRows() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs WHERE tenant_id = ?",
+				Long.class, tenant.getId());
+	}
+
+	private double count(String outcome) {
+		return meterRegistry.counter("audit.events", "outcome", outcome).count();
+	}
+}
@@ -0,0 +1,92 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.MySqlIntegrationTest;
+import com.timesheet.timesheet.dto.request.InvoiceGenerationRequest;
+import com.timesheet.timesheet.dto.response.InvoiceGenerationResult;
+import com.timesheet.timesheet.dto.response.InvoiceResponse;
+import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvoiceServiceTests extends MySqlIntegrationTest {
+
+	@Autowired
+	private InvoiceService invoiceService;
+
+	private Tenant tenant;
+	private User admin;
+	private Project project;
+
+	@BeforeEach
+	void setUp() {
+		tenant = createTenant();
+		admin = createUser(tenant, User.Role.ADMIN);
+		project = createProject(tenant, admin);
+		authenticate(admin);
+	}
+
+	@Test
+	void overlappingPeriodIsRejectedSoTimesheetsAreBilledOnce() {
+		insertTimesheet(admin, project, LocalDate.of(2024, 1, 10), "8.00", "APPROVED");
+		insertTimesheet(admin, project, LocalDate.of(2024, 1, 20), "4.00", "APPROVED");
+		insertTimesheet(admin, project, LocalDate.of(2024, 2, 10), "2.00", "APPROVED");
+
+		InvoiceResponse january = invoiceService.generateInvoice(
+				request(project, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+		assertThat(january.getTotalAmount()).isEqualByComparingTo("600.00");
+
+		assertThatThrownBy(() -> invoiceService.generateInvoice(
+				request(project, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15))))
+				.isInstanceOf(BadRequestException.class);
+
+		InvoiceResponse february = invoiceService.generateInvoice(
+				request(project, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)));
+		assertThat(february.getTotalAmount()).isEqualByComparingTo("100.00");
+	}
+
+	@Test
+	void invoiceNumbersAreSequentialWithoutGaps() {
+		Project second = createProject(tenant, admin);
+		Project idle = createProject(tenant, admin);
+		insertTimesheet(admin, project, LocalDate.of(2024, 1, 10), "8.00", "APPROVED");
+		insertTimesheet(admin, second, LocalDate.of(2024, 1, 11), "3.00", "APPROVED");
+
+		List<InvoiceGenerationResult> results = invoiceService.generateForAllProjects(
+				request(null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+
+		assertThat(results).filteredOn(result -> result.getProjectId().equals(idle.getId()))
+				.singleElement()
+				.satisfies(result -> assertThat(result.getResult()).isEqualTo("NO_BILLABLE_TIME"));
+		// The run without billable time must not consume a number
+		assertThat(results).filteredOn(result -> "GENERATED".equals(result.getResult()))
+				.extracting(InvoiceGenerationResult::getInvoiceNumber)
+				.containsExactlyInAnyOrder(
+						String.format("INV-%d-%06d", tenant.getId(), 1),
+						String.format("INV-%d-%06d", tenant.getId(), 2));
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM invoices WHERE invoice_number LIKE 'PENDING-%'",
+				Long.class)).isZero();
+		assertThat(results).extracting(InvoiceGenerationResult::getTotalAmount)
+				.filteredOn(amount -> amount != null)
+				.usingElementComparator(BigDecimal::compareTo)
+				.containsExactlyInAnyOrder(new BigDecimal("400.00"), new BigDecimal("150.00"));
+	}
+
+	private static InvoiceGenerationRequest request(Project project, LocalDate start, LocalDate end) {
+		InvoiceGenerationRequest request = new InvoiceGenerationRequest();
+		request.setProjectId(project != null ? project.getId() : null);
+		request.setPeriodStart(start);
+		request.setPeriodEnd(end);
+		return request;
+	}
+}
@@ -0,0 +1,99 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.MySqlIntegrationTest;
+import com.timesheet.timesheet.dto.response.ProjectResponse;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProjectServiceTests extends MySqlIntegrationTest {
+
+	private static final int PROJECTS = 500;
+	private static final int MEMBERS_PER_PROJECT = 20;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Tenant tenant;
+
+	@BeforeEach
+	void setUp() {
+		tenant = createTenant();
+		User admin = createUser(tenant, User.Role.ADMIN);
+		List<User> members = new ArrayList<>();
+		for (int i = 0; i < MEMBERS_PER_PROJECT; i++) {
+			members.add(createUser(tenant, User.Role.EMPLOYEE));
+		}
+
+		List<Object[]> projects = new ArrayList<>();
+		for (int i = 0; i < PROJECTS; i++) {
+			projects.add(new Object[]{tenant.getId(), "Project " + i, admin.getId()});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO projects (tenant_id, name, status, created_by, created_at, updated_at) " +
+				"VALUES (?, ?, 'ACTIVE', ?, NOW(), NOW())", projects);
+		List<Long> projectIds = jdbcTemplate.queryForList("SELECT id FROM projects WHERE tenant_id = ?",
+				Long.class, tenant.getId());
+
+		List<Object[]> memberRows = new ArrayList<>();
+		List<Object[]> timesheetRows = new ArrayList<>();
+		for (Long projectId : projectIds) {
+			for (User member : members) {
+				memberRows.add(new Object[]{projectId, member.getId()});
+			}
+			timesheetRows.add(new Object[]{tenant.getId(), members.get(0).getId(), projectId,
+					Date.valueOf(LocalDate.of(2024, 3, 4))});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO project_members (project_id, user_id, role, assigned_at) " +
+				"VALUES (?, ?, 'DEVELOPER', NOW())", memberRows);
+		jdbcTemplate.batchUpdate("INSERT INTO timesheets " +
+				"(tenant_id, user_id, project_id, date, hours, is_billable, status, created_at, updated_at) " +
+				"VALUES (?, ?, ?, ?, 2.00, TRUE, 'APPROVED', NOW(), NOW())", timesheetRows);
+
+		authenticate(admin);
+	}
+
+	@Test
+	void projectPageIsEnrichedWithAFixedNumberOfStatements() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		statistics.clear();
+		Page<ProjectResponse> small = projectService.getAllProjects(PageRequest.of(0, 5));
+		long smallPageStatements = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		Page<ProjectResponse> page = projectService.getAllProjects(PageRequest.of(0, PROJECTS));
+		long fullPageStatements = statistics.getPrepareStatementCount();
+
+		// Page, count, approved totals and members with their users, whatever the page holds
+		assertThat(smallPageStatements).isEqualTo(4);
+		assertThat(fullPageStatements).isEqualTo(4);
+
+		assertThat(small.getContent()).hasSize(5);
+		assertThat(page.getContent()).hasSize(PROJECTS);
+		assertThat(page.getContent()).allSatisfy(project -> {
+			assertThat(project.getMembers()).hasSize(MEMBERS_PER_PROJECT);
+			assertThat(project.getCreatedBy()).isNotNull();
+			assertThat(project.getTotalHours()).isEqualByComparingTo("2.00");
+			assertThat(project.getTotalCost()).isEqualByComparingTo("100.00");
+		});
+	}
+}
@@ -0,0 +1,172 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.MySqlIntegrationTest;
+import com.timesheet.timesheet.dto.request.BulkTimesheetApprovalRequest;
+import com.timesheet.timesheet.dto.response.BulkApprovalResponse;
+import com.timesheet.timesheet.exception.BadRequestException;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimesheetBulkApprovalTests extends MySqlIntegrationTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+	@Autowired
+	private TimesheetService timesheetService;
+
+	@Autowired
+	private TimesheetRollupService rollupService;
+
+	private Tenant tenant;
+	private User manager;
+	private User employee;
+	private Project project;
+
+	@BeforeEach
+	void setUp() {
+		tenant = createTenant();
+		manager = createUser(tenant, User.Role.MANAGER);
+		employee = createUser(tenant, User.Role.EMPLOYEE);
+		project = createProject(tenant, manager);
+		authenticate(manager);
+	}
+
+	@Test
+	void explicitIdsReportRowsThatAreNotPendingOrBelongToAnotherTenant() {
+		Long pending = insertTimesheet(employee, project, DAY, "8.00", "PENDING");
+		Long approved = insertTimesheet(employee, project, DAY, "4.00", "APPROVED");
+		Tenant otherTenant = createTenant();
+		User otherUser = createUser(otherTenant, User.Role.EMPLOYEE);
+		Long foreign = insertTimesheet(otherUser, createProject(otherTenant, otherUser), DAY, "2.00", "PENDING");
+		rollupService.rebuildTenant(tenant.getId());
+		rollupService.rebuildTenant(otherTenant.getId());
+
+		BulkApprovalResponse response = timesheetService.bulkApproveOrReject(byIds("APPROVED", pending, approved, foreign));
+
+		assertThat(response.getUpdatedCount()).isEqualTo(1);
+		assertThat(response.isHasMore()).isFalse();
+		assertThat(outcomes(response)).containsOnly(
+				Map.entry(pending, "UPDATED"),
+				Map.entry(approved, "NOT_PENDING"),
+				Map.entry(foreign, "NOT_FOUND"));
+		assertThat(status(foreign)).isEqualTo("PENDING");
+		assertThat(rollups(tenant)).containsOnly(Map.entry("APPROVED", new BigDecimal("12.00")));
+		assertRollupsMatchRebuild(tenant);
+		assertRollupsMatchRebuild(otherTenant);
+	}
+
+	@Test
+	void rejectingStoresReasonAndMovesHoursToRejected() {
+		Long first = insertTimesheet(employee, project, DAY, "3.00", "PENDING");
+		Long second = insertTimesheet(employee, project, DAY.plusDays(1), "5.00", "PENDING");
+		rollupService.rebuildTenant(tenant.getId());
+
+		BulkTimesheetApprovalRequest request = byIds("REJECTED", first, second);
+		request.setRejectionReason("Wrong project");
+		timesheetService.bulkApproveOrReject(request);
+
+		assertThat(jdbcTemplate.queryForList("SELECT rejection_reason FROM timesheets WHERE id IN (?, ?)",
+				String.class, first, second)).containsOnly("Wrong project");
+		assertThat(rollups(tenant)).containsOnly(Map.entry("REJECTED", new BigDecimal("8.00")));
+		assertRollupsMatchRebuild(tenant);
+	}
+
+	@Test
+	void filterUpdatesAtMostOneThousandRowsAndReportsMore() {
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < 1001; i++) {
+			rows.add(new Object[]{tenant.getId(), employee.getId(), project.getId(), Date.valueOf(DAY.plusDays(i % 28))});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO timesheets " +
+				"(tenant_id, user_id, project_id, date, hours, is_billable, status, created_at, updated_at) " +
+				"VALUES (?, ?, ?, ?, 1.00, TRUE, 'PENDING', NOW(), NOW())", rows);
+		rollupService.rebuildTenant(tenant.getId());
+
+		BulkTimesheetApprovalRequest request = new BulkTimesheetApprovalRequest();
+		request.setStatus("APPROVED");
+		request.setProjectId(project.getId());
+
+		BulkApprovalResponse first = timesheetService.bulkApproveOrReject(request);
+		assertThat(first.getUpdatedCount()).isEqualTo(1000);
+		assertThat(first.isHasMore()).isTrue();
+
+		BulkApprovalResponse second = timesheetService.bulkApproveOrReject(request);
+		assertThat(second.getUpdatedCount()).isEqualTo(1);
+		assertThat(second.isHasMore()).isFalse();
+
+		assertThat(rollups(tenant)).containsOnly(Map.entry("APPROVED", new BigDecimal("1001.00")));
+		assertRollupsMatchRebuild(tenant);
+	}
+
+	@Test
+	void unknownStatusIsABadRequest() {
+		Long pending = insertTimesheet(employee, project, DAY, "8.00", "PENDING");
+
+		assertThatThrownBy(() -> timesheetService.bulkApproveOrReject(byIds("DONE", pending)))
+				.isInstanceOf(BadRequestException.class)
+				.hasMessage("Invalid status: DONE");
+		assertThatThrownBy(() -> timesheetService.bulkApproveOrReject(byIds("PENDING", pending)))
+				.isInstanceOf(BadRequestException.class);
+		assertThat(status(pending)).isEqualTo("PENDING");
+	}
+
+	@Test
+	void employeesCannotBulkApprove() {
+		Long pending = insertTimesheet(employee, project, DAY, "8.00", "PENDING");
+		authenticate(employee);
+
+		assertThatThrownBy(() -> timesheetService.bulkApproveOrReject(byIds("APPROVED", pending)))
+				.isInstanceOf(BadRequestException.class);
+		assertThat(status(pending)).isEqualTo("PENDING");
+	}
+
+	private static BulkTimesheetApprovalRequest byIds(String status, Long... ids) {
+		BulkTimesheetApprovalRequest request = new BulkTimesheetApprovalRequest();
+		request.setStatus(status);
+		request.setIds(List.of(ids));
+		return request;
+	}
+
+	private static Map<Long, String> outcomes(BulkApprovalResponse response) {
+		Map<Long, String> outcomes = new HashMap<>();
+		response.getOutcomes().forEach(outcome -> outcomes.put(outcome.getId(), outcome.getResult()));
+		return outcomes;
+	}
+
+	private String status(Long id) {
+		return jdbcTemplate.queryForObject("SELECT status FROM timesheets WHERE id = ?", String.class, id);
+	}
+
+	// Hours per status; statuses whose rollup rows were emptied by deltas are left out, as a rebuild drops them
+	private Map<String, BigDecimal> rollups(Tenant tenant) {
+		Map<String, BigDecimal> hours = new HashMap<>();
+		jdbcTemplate.query("SELECT status, SUM(hours) AS hours FROM timesheet_daily_rollups " +
+						"WHERE tenant_id = ? GROUP BY status HAVING SUM(entry_count) > 0",
+				rs -> {
+					hours.put(rs.getString("status"), rs.getBigDecimal("hours"));
+				}, tenant.getId());
+		return hours;
+	}
+
+	// The deltas applied by the bulk update must leave the same totals a full rebuild computes
+	private void assertRollupsMatchRebuild(Tenant tenant) {
+		Map<String, BigDecimal> incremental = rollups(tenant);
+		rollupService.rebuildTenant(tenant.getId());
+		assertThat(rollups(tenant)).isEqualTo(incremental);
+	}
+}
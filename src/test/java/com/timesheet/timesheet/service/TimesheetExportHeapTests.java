@@ -0,0 +1,120 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.MySqlIntegrationTest;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.User;
+import com.timesheet.timesheet.service.TimesheetExportService.ExportFormat;
+import com.timesheet.timesheet.service.TimesheetExportService.ExportRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Exports a million rows and checks that the export keeps no rows on the heap. ./mvnw test runs it in
+// its own surefire execution with -Xmx256m (see pom.xml), where buffering the result would run out of memory
+class TimesheetExportHeapTests extends MySqlIntegrationTest {
+
+	private static final Logger log = LoggerFactory.getLogger(TimesheetExportHeapTests.class);
+
+	private static final long ROWS = 1_000_000;
+	private static final long SAMPLE_EVERY = 100_000;
+	private static final long MAX_LIVE_GROWTH = 32L * 1024 * 1024;
+
+	@Autowired
+	private TimesheetExportService exportService;
+
+	private Tenant tenant;
+	private User user;
+	private Project project;
+
+	@BeforeEach
+	void setUp() {
+		tenant = createTenant();
+		user = createUser(tenant, User.Role.EMPLOYEE);
+		project = createProject(tenant, user);
+
+		// 1000 x 1000 rows from a cross join of a 1000-row sequence
+		jdbcTemplate.update("INSERT INTO timesheets " +
+						"(tenant_id, user_id, project_id, date, hours, description, is_billable, status, created_at, updated_at) " +
+						"WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 999) " +
+						"SELECT ?, ?, ?, DATE_ADD('2024-01-01', INTERVAL (a.n * 1000 + b.n) % 366 DAY), 1.50, " +
+						"CONCAT('Exported task ', a.n, '-', b.n), TRUE, 'APPROVED', NOW(), NOW() " +
+						"FROM seq a CROSS JOIN seq b",
+				tenant.getId(), user.getId(), project.getId());
+	}
+
+	@Test
+	void millionRowCsvExportKeepsLiveHeapFlat() throws Exception {
+		ExportRequest request = new ExportRequest(ExportFormat.CSV, tenant.getId(), null, null, null, null, null);
+		HeapSamplingStream out = new HeapSamplingStream();
+
+		long before = liveHeap();
+		resetPeakHeap();
+		exportService.writeExport(request, out);
+		long peak = peakHeap();
+
+		log.info("Exported {} rows ({} MB): live heap {} MB before, at most {} MB during; peak heap {} MB of {} MB max",
+				out.rows, out.bytes / (1024 * 1024), before / (1024 * 1024), out.maxLive / (1024 * 1024),
+				peak / (1024 * 1024), Runtime.getRuntime().maxMemory() / (1024 * 1024));
+
+		// One CSV line per row after the header
+		assertThat(out.rows).isEqualTo(ROWS + 1);
+		assertThat(out.maxLive - before).isLessThan(MAX_LIVE_GROWTH);
+	}
+
+	// Discards the export, counting lines and sampling the heap left after a full collection
+	private static class HeapSamplingStream extends OutputStream {
+
+		private long rows;
+		private long bytes;
+		private long maxLive;
+
+		@Override
+		public void write(int b) {
+			bytes++;
+			if (b == '\n' && ++rows % SAMPLE_EVERY == 0) {
+				maxLive = Math.max(maxLive, liveHeap());
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			for (int i = off; i < off + len; i++) {
+				write(b[i]);
+			}
+		}
+	}
+
+	private static long liveHeap() {
+		System.gc();
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	private static void resetPeakHeap() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	// Sum of the per-pool peaks, so an upper bound on the heap used at any one time
+	private static long peakHeap() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+}
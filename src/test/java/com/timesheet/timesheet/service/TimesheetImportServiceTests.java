@@ -0,0 +1,144 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.MySqlIntegrationTest;
+import com.timesheet.timesheet.dto.response.TimesheetImportResponse;
+import com.timesheet.timesheet.dto.response.TimesheetImportResponse.ImportRowError;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A batch size of 2 makes every multi-row import span several batches
+@TestPropertySource(properties = "app.import.batch-size=2")
+class TimesheetImportServiceTests extends MySqlIntegrationTest {
+
+	@Autowired
+	private TimesheetImportService importService;
+
+	private Tenant tenant;
+	private User manager;
+	private Project project;
+
+	@BeforeEach
+	void setUp() {
+		tenant = createTenant();
+		manager = createUser(tenant, User.Role.MANAGER);
+		project = createProject(tenant, manager);
+		authenticate(manager);
+	}
+
+	@Test
+	void importsCsvWithQuotedCommasAndLineBreaks() {
+		String csv = "\uFEFFproject_id,date,hours,description,is_billable\n" +
+				project.getId() + ",2024-03-04,8,\"Design, review\",true\n" +
+				"\n" +
+				project.getId() + ",2024-03-05,2.5,\"First line\nsecond line with \"\"quotes\"\"\",false\n" +
+				project.getId() + ",2024-03-06,abc,,\n";
+
+		TimesheetImportResponse response = importService.importTimesheets(stream(csv), "text/csv");
+
+		assertThat(response.getTotalRows()).isEqualTo(3);
+		assertThat(response.getImportedRows()).isEqualTo(2);
+		// Rows are CSV records: the empty line is skipped and the multi-line record counts once
+		assertThat(response.getErrors()).extracting(ImportRowError::getRow).containsExactly(4L);
+		assertThat(descriptions()).containsExactly("Design, review", "First line\nsecond line with \"quotes\"");
+		assertThat(totalHours()).isEqualTo("10.50");
+	}
+
+	@Test
+	void reportsUnterminatedCsvQuoteAndKeepsEarlierRows() {
+		String csv = "projectId,date,hours,description\n" +
+				project.getId() + ",2024-03-04,8,ok\n" +
+				project.getId() + ",2024-03-05,4,\"never closed\n";
+
+		TimesheetImportResponse response = importService.importTimesheets(stream(csv), "text/csv");
+
+		assertThat(response.getImportedRows()).isEqualTo(1);
+		assertThat(response.getErrors()).singleElement()
+				.satisfies(error -> assertThat(error.getMessage()).startsWith("Malformed CSV"));
+	}
+
+	@Test
+	void importsJsonArray() {
+		String json = "[" +
+				"{\"projectId\": " + project.getId() + ", \"date\": \"2024-03-04\", \"hours\": 7.5}," +
+				"{\"projectId\": " + project.getId() + ", \"date\": \"2024-03-05\", \"hours\": 30}," +
+				"{\"projectId\": " + project.getId() + ", \"date\": \"2024-03-06\", \"hours\": 1, \"isBillable\": false}" +
+				"]";
+
+		TimesheetImportResponse response = importService.importTimesheets(stream(json), "application/json");
+
+		assertThat(response.getTotalRows()).isEqualTo(3);
+		assertThat(response.getImportedRows()).isEqualTo(2);
+		assertThat(response.getErrors()).singleElement()
+				.satisfies(error -> assertThat(error.getRow()).isEqualTo(2));
+		assertThat(totalHours()).isEqualTo("8.50");
+	}
+
+	@Test
+	void importsNdjsonAndRejectsOtherTenantsProjects() {
+		Tenant otherTenant = createTenant();
+		Project otherProject = createProject(otherTenant, createUser(otherTenant, User.Role.ADMIN));
+		String ndjson = "{\"projectId\": " + project.getId() + ", \"date\": \"2024-03-04\", \"hours\": 3}\n" +
+				"{\"projectId\": " + otherProject.getId() + ", \"date\": \"2024-03-04\", \"hours\": 3}\n" +
+				"{\"projectId\": " + project.getId() + ", \"date\": \"2024-03-05\", \"hours\": 4}\n";
+
+		TimesheetImportResponse response = importService.importTimesheets(stream(ndjson), "application/x-ndjson");
+
+		assertThat(response.getImportedRows()).isEqualTo(2);
+		assertThat(response.getErrors()).singleElement()
+				.satisfies(error -> assertThat(error.getMessage()).isEqualTo("Project not found: " + otherProject.getId()));
+		assertThat(totalHours()).isEqualTo("7.00");
+	}
+
+	@Test
+	void failedBatchIsRolledBackWithoutDiscardingOtherBatches() {
+		// Longer than a TEXT column holds, so the insert of the second batch fails in the database
+		String tooLong = "x".repeat(70_000);
+		String ndjson = row("2024-03-04", "1", "a") + row("2024-03-05", "2", "b") +
+				row("2024-03-06", "3", "c") + row("2024-03-07", "4", tooLong) +
+				row("2024-03-08", "5", "e");
+
+		TimesheetImportResponse response = importService.importTimesheets(stream(ndjson), "application/x-ndjson");
+
+		assertThat(response.getTotalRows()).isEqualTo(5);
+		assertThat(response.getImportedRows()).isEqualTo(3);
+		assertThat(response.getErrors()).extracting(ImportRowError::getRow).containsExactly(3L, 4L);
+		assertThat(response.getErrors()).allSatisfy(error ->
+				assertThat(error.getMessage()).startsWith("Batch rolled back"));
+		assertThat(totalHours()).isEqualTo("8.00");
+		// Rollup deltas are written in the batch transaction, so the failed batch left none behind
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT SUM(hours) FROM timesheet_daily_rollups WHERE tenant_id = ?",
+				BigDecimal.class, tenant.getId()).toPlainString()).isEqualTo("8.00");
+	}
+
+	private String row(String date, String hours, String description) {
+		return "{\"projectId\": " + project.getId() + ", \"date\": \"" + date + "\", \"hours\": " + hours +
+				", \"description\": \"" + description + "\"}\n";
+	}
+
+	private List<String> descriptions() {
+		return jdbcTemplate.queryForList("SELECT description FROM timesheets WHERE tenant_id = ? ORDER BY date",
+				String.class, tenant.getId());
+	}
+
+	private String totalHours() {
+		return jdbcTemplate.queryForObject("SELECT SUM(hours) FROM timesheets WHERE tenant_id = ?",
+				BigDecimal.class, tenant.getId()).toPlainString();
+	}
+
+	private static ByteArrayInputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,126 @@
+package com.timesheet.timesheet.service;
+
+import com.timesheet.timesheet.MySqlIntegrationTest;
+import com.timesheet.timesheet.model.Project;
+import com.timesheet.timesheet.model.Tenant;
+import com.timesheet.timesheet.model.Timesheet;
+import com.timesheet.timesheet.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimesheetRollupServiceTests extends MySqlIntegrationTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+	@Autowired
+	private TimesheetRollupService rollupService;
+
+	private Tenant tenant;
+	private User user;
+	private Project project;
+
+	@BeforeEach
+	void setUp() {
+		tenant = createTenant();
+		user = createUser(tenant, User.Role.EMPLOYEE);
+		project = createProject(tenant, user);
+	}
+
+	@Test
+	void addAndRemoveApplyDeltasToTheSameRow() {
+		Timesheet first = timesheet("8.00", Timesheet.TimesheetStatus.PENDING);
+		Timesheet second = timesheet("2.50", Timesheet.TimesheetStatus.PENDING);
+
+		rollupService.add(first);
+		rollupService.add(second);
+		assertThat(rollups()).containsExactly(Map.entry("PENDING", new Totals("10.50", 2)));
+
+		rollupService.remove(first);
+		assertThat(rollups()).containsExactly(Map.entry("PENDING", new Totals("2.50", 1)));
+	}
+
+	@Test
+	void statusChangeMovesHoursBetweenRows() {
+		Timesheet timesheet = timesheet("6.00", Timesheet.TimesheetStatus.PENDING);
+		rollupService.add(timesheet);
+
+		rollupService.remove(timesheet);
+		timesheet.setStatus(Timesheet.TimesheetStatus.APPROVED);
+		rollupService.add(timesheet);
+
+		assertThat(rollups()).containsOnly(
+				Map.entry("PENDING", new Totals("0.00", 0)),
+				Map.entry("APPROVED", new Totals("6.00", 1)));
+	}
+
+	@Test
+	void addAllFoldsEntriesPerDay() {
+		rollupService.addAll(tenant.getId(), Timesheet.TimesheetStatus.PENDING, List.of(
+				new TimesheetRollupService.Entry(user.getId(), project.getId(), DAY, true, new BigDecimal("3.00")),
+				new TimesheetRollupService.Entry(user.getId(), project.getId(), DAY, true, new BigDecimal("4.00"))));
+
+		assertThat(rollups()).containsExactly(Map.entry("PENDING", new Totals("7.00", 2)));
+	}
+
+	@Test
+	void removeRowsAndAddRowsTrackABulkStatusUpdate() {
+		Long first = insertTimesheet(user, project, DAY, "5.00", "PENDING");
+		Long second = insertTimesheet(user, project, DAY, "3.00", "PENDING");
+		insertTimesheet(user, project, DAY, "1.00", "PENDING");
+		rollupService.rebuildTenant(tenant.getId());
+
+		List<Long> ids = List.of(first, second);
+		rollupService.removeRows(tenant.getId(), ids);
+		jdbcTemplate.update("UPDATE timesheets SET status = 'APPROVED' WHERE id IN (?, ?)", first, second);
+		rollupService.addRows(tenant.getId(), ids);
+
+		assertThat(rollups()).containsOnly(
+				Map.entry("PENDING", new Totals("1.00", 1)),
+				Map.entry("APPROVED", new Totals("8.00", 2)));
+	}
+
+	@Test
+	void tenantWithTimesheetsButNoRollupsNeedsBackfill() {
+		insertTimesheet(user, project, DAY, "4.00", "APPROVED");
+		assertThat(rollupService.needsBackfill(tenant.getId())).isTrue();
+
+		rollupService.rebuildTenant(tenant.getId());
+
+		assertThat(rollupService.needsBackfill(tenant.getId())).isFalse();
+		assertThat(rollups()).containsExactly(Map.entry("APPROVED", new Totals("4.00", 1)));
+	}
+
+	private Timesheet timesheet(String hours, Timesheet.TimesheetStatus status) {
+		return Timesheet.builder()
+				.tenant(tenant)
+				.user(user)
+				.project(project)
+				.date(DAY)
+				.hours(new BigDecimal(hours))
+				.isBillable(true)
+				.status(status)
+				.build();
+	}
+
+	private Map<String, Totals> rollups() {
+		Map<String, Totals> totals = new HashMap<>();
+		jdbcTemplate.query("SELECT status, hours, entry_count FROM timesheet_daily_rollups WHERE tenant_id = ?",
+				rs -> {
+					totals.put(rs.getString("status"),
+							new Totals(rs.getBigDecimal("hours").toPlainString(), rs.getLong("entry_count")));
+				}, tenant.getId());
+		return totals;
+	}
+
+	private record Totals(String hours, long entries) {
+	}
+}